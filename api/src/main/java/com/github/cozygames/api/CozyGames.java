@@ -28,6 +28,7 @@ import com.github.cozygames.api.member.Member;
 import com.github.cozygames.api.member.MemberNotFoundException;
 import com.github.cozygames.api.plugin.CozyGamesAPIPlugin;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
+import com.github.cozygames.api.queue.QueueManager;
 import com.github.kerbity.kerb.client.KerbClient;
 import com.github.kerbity.kerb.packet.event.Event;
 import com.github.kerbity.kerb.result.CompletableResultSet;
@@ -37,6 +38,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * The CozyGames API.
@@ -156,6 +161,19 @@ public interface CozyGames {
     @NotNull
     CozyGames unregisterLocalPlugin(@NotNull CozyGamesPlugin<?, ?, ?, ?> plugin);
 
+    /**
+     * Used to stop the background threads used
+     * by this api connection.
+     * <p>
+     * This should be called when the platform plugin
+     * is disabled, so a reloaded plugin doesn't
+     * leave the old threads running.
+     *
+     * @return This instance.
+     */
+    @NotNull
+    CozyGames shutdown();
+
     /**
      * Used to get the instance of the connection configuration file.
      * <p>
@@ -178,6 +196,72 @@ public interface CozyGames {
     @NotNull
     Database getDatabase();
 
+    /**
+     * Used to get the executor that runs asynchronous
+     * database requests.
+     * <p>
+     * This is a bounded thread pool that can be configured
+     * in the connection configuration. It is used by the
+     * asynchronous methods in the managers, for example
+     * {@link MapManager#registerMapAsync(Map)}.
+     * <p>
+     * When its queue is full, new requests are rejected
+     * instead of being run on the caller's thread.
+     *
+     * @return The database executor.
+     */
+    @NotNull
+    Executor getDatabaseExecutor();
+
+    /**
+     * Used to get a value asynchronously using
+     * the {@link #getDatabaseExecutor()}.
+     * <p>
+     * If the database executor is full or shut down,
+     * the future will be completed exceptionally with a
+     * {@link RejectedExecutionException}.
+     *
+     * @param supplier The supplier that gets the value.
+     * @param <T>      The type of value.
+     * @return The future value.
+     */
+    default <T> @NotNull CompletableFuture<T> supplyDatabaseAsync(@NotNull Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this.getDatabaseExecutor());
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Used to get the executor that runs tasks
+     * on the platform's main thread.
+     * <p>
+     * This can be used to continue on the main thread
+     * after an asynchronous request has completed.
+     * <pre>{@code
+     * api.getGroupManager().getGroupFromPlayerAsync(playerUuid)
+     *         .thenAcceptAsync(group -> ..., api.getMainThreadExecutor());
+     * }</pre>
+     *
+     * @return The main thread executor.
+     */
+    @NotNull
+    Executor getMainThreadExecutor();
+
+    /**
+     * Used to get the executor that calls
+     * teleport events and waits for their replies.
+     * <p>
+     * On java 21 or above this uses virtual threads. Otherwise,
+     * it is a thread pool that can be configured in the
+     * connection configuration.
+     *
+     * @return The teleport executor.
+     */
+    @NotNull
+    Executor getTeleportExecutor();
+
     /**
      * Used to get the instance of the kerb client connection.
      * <p>
@@ -193,6 +277,11 @@ public interface CozyGames {
      * Used to call an event though the kerb client.
      * <p>
      * Calls method {@link KerbClient#callEvent(Event)}.
+     * <p>
+     * Arena and map events for this server are handled on the
+     * calling thread instead, and are not sent to other kerb
+     * listeners. If the event can't be handled, the result
+     * contains the incomplete event.
      *
      * @param event The instance of the kerb event.
      * @param <E>   The event class.
@@ -234,6 +323,17 @@ public interface CozyGames {
     @NotNull
     GroupManager getGroupManager();
 
+    /**
+     * Used to get the instance of the queue manager.
+     * <p>
+     * Used to queue groups for a game and match
+     * them into arenas.
+     *
+     * @return The queue manager.
+     */
+    @NotNull
+    QueueManager getQueueManager();
+
     /**
      * Used to get the instance of a member
      * given the player's uuid.
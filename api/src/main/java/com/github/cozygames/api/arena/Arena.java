@@ -34,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the base arena class.
@@ -49,8 +50,10 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
 
     private final @NotNull String mapIdentifier;
     private final @NotNull String worldName;
+    private final @Nullable Integer slot;
 
     private @Nullable UUID groupIdentifier;
+    private boolean isBuilt;
 
     /**
      * Used to create an instance of an arena.
@@ -59,8 +62,21 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
      * @param worldName     The name of the world the arena is located in.
      */
     public Arena(@NotNull String mapIdentifier, @NotNull String worldName) {
+        this(mapIdentifier, worldName, null);
+    }
+
+    /**
+     * Used to create an instance of an arena.
+     *
+     * @param mapIdentifier The map identifier.
+     * @param worldName     The name of the world the arena is located in.
+     * @param slot          The {@link ArenaGrid} slot the arena is placed in.
+     *                      Null if the arena uses the entire world.
+     */
+    public Arena(@NotNull String mapIdentifier, @NotNull String worldName, @Nullable Integer slot) {
         this.mapIdentifier = mapIdentifier;
         this.worldName = worldName;
+        this.slot = slot;
     }
 
     /**
@@ -70,7 +86,7 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
      *                   the {@link Arena#getIdentifier(String, String)} method.
      */
     public Arena(@NotNull String identifier) {
-        this(Map.getIdentifier(identifier), identifier.split(":")[3]);
+        this(Map.getIdentifier(identifier), identifier.split(":")[3], Arena.getSlot(identifier).orElse(null));
     }
 
     /**
@@ -105,6 +121,20 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
      */
     public abstract @NotNull A createWorld();
 
+    /**
+     * Used to create the world if it doesn't exist
+     * on the server, without blocking the current thread
+     * where the platform allows it.
+     * <p>
+     * By default, this calls {@link Arena#createWorld()}.
+     *
+     * @return The future that completes when the world is created.
+     */
+    public @NotNull CompletableFuture<Void> createWorldAsync() {
+        this.createWorld();
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Used to delete the world if it exists
      * on the server.
@@ -113,6 +143,23 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
      */
     public abstract @NotNull A deleteWorld();
 
+    /**
+     * Used to build the map in the arena's world.
+     * <p>
+     * Building may be spread over many ticks, so the
+     * returned future should be completed before
+     * players are teleported into the arena.
+     * <p>
+     * By default, there is nothing to build and the
+     * arena is marked as built straight away.
+     *
+     * @return The future that completes when the map is built.
+     */
+    public @NotNull CompletableFuture<Void> buildMap() {
+        this.setBuilt(true);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Used to activate the arena and begin a game session.
      *
@@ -147,8 +194,10 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
     /**
      * Used to get the arena's unique identifier.
      * <p>
-     * Created using the map identifier and world
-     * name seperated with colons.
+     * Created using the map identifier, world
+     * name and slot seperated with colons.
+     * The slot is only included when the arena
+     * is placed in an {@link ArenaGrid}.
      * <p>
      * You can create this using the method
      * {@link Arena#getIdentifier(String, String)}.
@@ -156,12 +205,14 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
      * Example:
      * <pre>{@code
      * server1:bedwars:aquarium:world_bedwars_aquarium_1
+     * server1:bedwars:aquarium:world_bedwars_aquarium_grid:3
      * }</pre>
      *
      * @return The arena's identifier.
      */
     public @NotNull String getIdentifier() {
-        return Arena.getIdentifier(this.mapIdentifier, this.worldName);
+        if (this.slot == null) return Arena.getIdentifier(this.mapIdentifier, this.worldName);
+        return Arena.getIdentifier(this.mapIdentifier, this.worldName, this.slot);
     }
 
     /**
@@ -184,6 +235,18 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
         return this.worldName;
     }
 
+    /**
+     * Used to get the {@link ArenaGrid} slot
+     * this arena is placed in.
+     * <p>
+     * When empty, the arena uses the entire world.
+     *
+     * @return The optional slot.
+     */
+    public @NotNull Optional<Integer> getSlot() {
+        return Optional.ofNullable(this.slot);
+    }
+
     /**
      * Used to get the group's identifier that is using the arena.
      *
@@ -217,6 +280,28 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
         return (A) this;
     }
 
+    /**
+     * Used to check if the map has been built
+     * in the arena's world.
+     *
+     * @return True if the map is built.
+     */
+    public boolean isBuilt() {
+        return this.isBuilt;
+    }
+
+    /**
+     * Used to set if the map has been built
+     * in the arena's world.
+     *
+     * @param isBuilt True if the map is built.
+     * @return This instance.
+     */
+    public @NotNull A setBuilt(boolean isBuilt) {
+        this.isBuilt = isBuilt;
+        return (A) this;
+    }
+
     /**
      * Used to check if the arena is active.
      *
@@ -255,6 +340,78 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
         return mapIdentifier + ":" + worldName;
     }
 
+    /**
+     * Used to get the arena identifier that represents
+     * a map identifier, world name and slot.
+     * <p>
+     * This is used for arenas that are placed in an {@link ArenaGrid}.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * server1:bedwars:aquarium:world_bedwars_aquarium_grid:3
+     * }</pre>
+     *
+     * @param mapIdentifier The map identifier.
+     * @param worldName     The world name.
+     * @param slot          The slot in the world.
+     * @return The arena identifier.
+     */
+    public static @NotNull String getIdentifier(@NotNull String mapIdentifier, @NotNull String worldName, int slot) {
+        return mapIdentifier + ":" + worldName + ":" + slot;
+    }
+
+    /**
+     * Used to get the slot from an arena identifier.
+     *
+     * @param arenaIdentifier The arena identifier.
+     * @return The optional slot.
+     * Empty if the arena uses the entire world.
+     */
+    public static @NotNull Optional<Integer> getSlot(@NotNull String arenaIdentifier) {
+        final String[] parts = arenaIdentifier.split(":");
+        if (parts.length < 5) return Optional.empty();
+        return Optional.of(Integer.parseInt(parts[4]));
+    }
+
+    /**
+     * Used to generate a unique world name for
+     * a new arena of a map.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * world_bedwars_aquarium_3f2a9c1b
+     * }</pre>
+     *
+     * @param mapIdentifier The map identifier.
+     * @return The world name.
+     */
+    public static @NotNull String generateWorldName(@NotNull String mapIdentifier) {
+        return "world_" + mapIdentifier.split(":")[1]
+                + "_" + Map.getName(mapIdentifier)
+                + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Used to generate a unique name for a world that
+     * is shared by the arenas of a map in an {@link ArenaGrid}.
+     * <p>
+     * Each grid world has its own name, so a new grid world
+     * never uses the folder of one that is still being deleted.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * world_bedwars_aquarium_grid_3f2a9c1b
+     * }</pre>
+     *
+     * @param mapIdentifier The map identifier.
+     * @return The world name.
+     */
+    public static @NotNull String generateGridWorldName(@NotNull String mapIdentifier) {
+        return "world_" + mapIdentifier.split(":")[1]
+                + "_" + Map.getName(mapIdentifier)
+                + "_grid_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
     @Override
     public @NotNull ConfigurationSection convert() {
         ConfigurationSection section = new MemoryConfigurationSection(new LinkedHashMap<>());
@@ -262,10 +419,18 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
         section.set("map_identifier", this.mapIdentifier);
         section.set("world_name", this.worldName);
 
+        if (this.slot != null) {
+            section.set("slot", this.slot);
+        }
+
         if (this.groupIdentifier != null) {
             section.set("group_identifier", this.groupIdentifier.toString());
         }
 
+        if (this.isBuilt) {
+            section.set("built", true);
+        }
+
         return section;
     }
 
@@ -276,6 +441,8 @@ public abstract class Arena<A extends Arena<A, M>, M extends Map<M>>
             this.setGroupIdentifier(UUID.fromString(section.getString("group_identifier")));
         }
 
+        this.setBuilt(section.getBoolean("built", false));
+
         return (A) this;
     }
 
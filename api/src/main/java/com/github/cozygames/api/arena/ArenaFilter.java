@@ -20,11 +20,14 @@ package com.github.cozygames.api.arena;
 
 import com.github.cozygames.api.map.Map;
 import com.github.cozygames.api.map.MapFilter;
+import com.github.smuddgge.squishydatabase.Query;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,6 +38,10 @@ import java.util.UUID;
  * <p>
  * Setters in this class are used to set a specific filter
  * that will be used to match with arenas and maps.
+ * <p>
+ * When getting arenas from the database, filters that are
+ * stored in the arena table are matched by the database
+ * using {@link ArenaFilter#getQuery()}.
  */
 public class ArenaFilter extends MapFilter {
 
@@ -57,6 +64,68 @@ public class ArenaFilter extends MapFilter {
         return this;
     }
 
+    /**
+     * Used to get the database query that matches the
+     * filters stored in the arena table.
+     * <p>
+     * Filters that require the arena's map, such as the member
+     * capacity, are not included in the query.
+     * <p>
+     * The filter columns are stored in lower case, so the values
+     * are matched ignoring case, the same as {@link ArenaFilter#matchesArena(Arena)}.
+     *
+     * @return The optional query. Empty if there are no filters the database can match.
+     */
+    public @NotNull Optional<Query> getQuery() {
+        final Query query = new Query();
+        boolean isEmpty = true;
+
+        if (this.mapIdentifierFilter != null) {
+            query.match("mapIdentifier", this.mapIdentifierFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.mapNameFilter != null) {
+            query.match("mapName", this.mapNameFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.serverNameFilter != null) {
+            query.match("serverName", this.serverNameFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.gameIdentifierFilter != null) {
+            query.match("gameIdentifier", this.gameIdentifierFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.arenaIdentifierFilter != null) {
+            query.match("lowerCaseIdentifier", this.arenaIdentifierFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.worldNameFilter != null) {
+            query.match("worldName", this.worldNameFilter.toLowerCase(Locale.ROOT));
+            isEmpty = false;
+        }
+        if (this.groupIdentifierFilter != null) {
+            query.match("groupIdentifier", this.groupIdentifierFilter.toString());
+            isEmpty = false;
+        }
+
+        if (isEmpty) return Optional.empty();
+        return Optional.of(query);
+    }
+
+    /**
+     * Used to check if this filter contains filters that
+     * require the arena's map to be checked.
+     * <p>
+     * These filters can't be matched by the database.
+     *
+     * @return True if the arena's map is required.
+     */
+    public boolean requiresMap() {
+        return this.maximumSessionAmountFilter != null
+                || this.memberCapacityFilter != null;
+    }
+
     /**
      * Used to filter a list of arenas.
      * <p>
@@ -68,34 +137,52 @@ public class ArenaFilter extends MapFilter {
      * @return The new list of filtered arenas.
      */
     public <A extends Arena<A, ?>> @NotNull List<A> filterArenas(@NotNull List<A> arenaList) {
-        return new ArrayList<>(arenaList).stream().filter(arena -> {
-
-            // Check each arena variable against initialized filters.
-            if (this.mapIdentifierFilter != null && !arena.getMap().getIdentifier().equalsIgnoreCase(this.mapIdentifierFilter)) {
-                return false;
-            }
-            if (this.mapNameFilter != null && !arena.getMap().getName().equalsIgnoreCase(this.mapNameFilter)) {
-                return false;
-            }
-            if (this.serverNameFilter != null && !arena.getMap().getServerName().equalsIgnoreCase(this.serverNameFilter)) {
-                return false;
-            }
-            if (this.gameIdentifierFilter != null && !arena.getMap().getGameIdentifier().equalsIgnoreCase(this.gameIdentifierFilter)) {
-                return false;
-            }
-            if (this.maximumSessionAmountFilter != null && arena.getMap().getMaximumSessionAmount() != this.maximumSessionAmountFilter) {
-                return false;
-            }
-            if (this.memberCapacityFilter != null && (arena.getMap().getCapacity().isEmpty() || !arena.getMap().getCapacity().orElseThrow().contains(this.memberCapacityFilter))) {
-                return false;
-            }
-            if (this.arenaIdentifierFilter != null && !arena.getIdentifier().equalsIgnoreCase(this.arenaIdentifierFilter)) {
-                return false;
-            }
-            if (this.worldNameFilter != null && !arena.getWorldName().equalsIgnoreCase(this.worldNameFilter)) {
-                return false;
-            }
-            return this.groupIdentifierFilter == null || (arena.getGroupIdentifier().isPresent() && !arena.getGroupIdentifier().orElseThrow().equals(this.groupIdentifierFilter));
-        }).toList();
+        return new ArrayList<>(arenaList).stream().filter(this::matchesArena).toList();
+    }
+
+    /**
+     * Used to check if an arena matches the filter.
+     * <p>
+     * Map filters that are part of the map identifier are checked
+     * using the arena's map identifier. The arena's map is only
+     * requested once, and only if this filter {@link ArenaFilter#requiresMap()}.
+     *
+     * @param arena The instance of the arena.
+     * @return True if the arena matches.
+     */
+    public boolean matchesArena(@NotNull Arena<?, ?> arena) {
+        final String[] mapIdentifierParts = arena.getMapIdentifier().split(":");
+
+        // Check each arena variable against initialized filters.
+        if (this.mapIdentifierFilter != null && !arena.getMapIdentifier().equalsIgnoreCase(this.mapIdentifierFilter)) {
+            return false;
+        }
+        if (this.serverNameFilter != null && !mapIdentifierParts[0].equalsIgnoreCase(this.serverNameFilter)) {
+            return false;
+        }
+        if (this.gameIdentifierFilter != null && !mapIdentifierParts[1].equalsIgnoreCase(this.gameIdentifierFilter)) {
+            return false;
+        }
+        if (this.mapNameFilter != null && !mapIdentifierParts[2].equalsIgnoreCase(this.mapNameFilter)) {
+            return false;
+        }
+        if (this.arenaIdentifierFilter != null && !arena.getIdentifier().equalsIgnoreCase(this.arenaIdentifierFilter)) {
+            return false;
+        }
+        if (this.worldNameFilter != null && !arena.getWorldName().equalsIgnoreCase(this.worldNameFilter)) {
+            return false;
+        }
+        if (this.groupIdentifierFilter != null && (arena.getGroupIdentifier().isEmpty() || !arena.getGroupIdentifier().orElseThrow().equals(this.groupIdentifierFilter))) {
+            return false;
+        }
+
+        // Check the filters that require the arena's map.
+        if (!this.requiresMap()) return true;
+        final Map<?> map = arena.getMap();
+
+        if (this.maximumSessionAmountFilter != null && map.getMaximumSessionAmount() != this.maximumSessionAmountFilter) {
+            return false;
+        }
+        return this.memberCapacityFilter == null || (map.getCapacity().isPresent() && map.getCapacity().orElseThrow().contains(this.memberCapacityFilter));
     }
 }
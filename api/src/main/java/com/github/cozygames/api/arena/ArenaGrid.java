@@ -0,0 +1,199 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.arena;
+
+import com.github.cozygames.api.location.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the slots of a grid that arenas can be placed in.
+ * <p>
+ * This lets many arenas share a single world. Each world has its
+ * own grid of slots, and each slot has an origin that the
+ * arena's map is moved by.
+ * <p>
+ * Slots are placed in rows of {@link ArenaGrid#getColumns()}
+ * slots, where each slot is {@link ArenaGrid#getSpacing()}
+ * blocks away from the next.
+ * <p>
+ * New arenas of a map are placed in the map's current grid world.
+ * A released slot may still contain the blocks and entities left by
+ * its arena, so it is not allocated again. Instead, the world stops
+ * taking new arenas and is deleted once every slot is released.
+ * The map's next arena is placed in a world with a new name.
+ */
+public class ArenaGrid {
+
+    private final int spacing;
+    private final int columns;
+    private final @NotNull Map<String, BitSet> usedSlotMap;
+    private final @NotNull Map<String, BitSet> releasedSlotMap;
+    private final @NotNull Map<String, String> worldNameMap;
+
+    /**
+     * Used to create a new arena grid.
+     *
+     * @param spacing The amount of blocks between the origin of each slot.
+     * @param columns The amount of slots in each row.
+     */
+    public ArenaGrid(int spacing, int columns) {
+        if (spacing <= 0) throw new IllegalArgumentException("The grid spacing must be greater than 0.");
+        if (columns <= 0) throw new IllegalArgumentException("The grid columns must be greater than 0.");
+
+        this.spacing = spacing;
+        this.columns = columns;
+        this.usedSlotMap = new HashMap<>();
+        this.releasedSlotMap = new HashMap<>();
+        this.worldNameMap = new HashMap<>();
+    }
+
+    /**
+     * Used to get the amount of blocks between
+     * the origin of each slot.
+     *
+     * @return The spacing of the grid.
+     */
+    public int getSpacing() {
+        return this.spacing;
+    }
+
+    /**
+     * Used to get the amount of slots in each row.
+     *
+     * @return The amount of columns.
+     */
+    public int getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Used to create a new arena identifier for a map
+     * and allocate its slot.
+     * <p>
+     * The arena is placed in the map's current grid world.
+     * If the map doesn't have one, a world with a new
+     * name is used.
+     *
+     * @param mapIdentifier The map identifier.
+     * @return The new arena identifier.
+     */
+    public synchronized @NotNull String createArenaIdentifier(@NotNull String mapIdentifier) {
+        final String worldName = this.worldNameMap.computeIfAbsent(mapIdentifier, Arena::generateGridWorldName);
+        return Arena.getIdentifier(mapIdentifier, worldName, this.allocate(worldName));
+    }
+
+    /**
+     * Used to allocate the lowest free slot in a world.
+     *
+     * @param worldName The name of the world.
+     * @return The allocated slot.
+     */
+    public synchronized int allocate(@NotNull String worldName) {
+        final BitSet usedSlots = this.usedSlotMap.computeIfAbsent(worldName, key -> new BitSet());
+        final int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        return slot;
+    }
+
+    /**
+     * Used to mark a slot as used.
+     * <p>
+     * This is used when arenas are loaded that
+     * already have a slot.
+     *
+     * @param worldName The name of the world.
+     * @param slot      The slot to reserve.
+     * @return False if the slot was already used.
+     */
+    public synchronized boolean reserve(@NotNull String worldName, int slot) {
+        final BitSet usedSlots = this.usedSlotMap.computeIfAbsent(worldName, key -> new BitSet());
+        if (usedSlots.get(slot)) return false;
+
+        usedSlots.set(slot);
+        return true;
+    }
+
+    /**
+     * Used to release a slot once its arena is removed.
+     * <p>
+     * The slot is not allocated again, as it may not be
+     * empty. No new arenas are placed in the world, so it
+     * can be deleted once its other slots are released.
+     *
+     * @param worldName The name of the world.
+     * @param slot      The slot to release.
+     * @return The amount of slots that are still used in the world.
+     * When this is 0, the world should be deleted.
+     */
+    public synchronized int release(@NotNull String worldName, int slot) {
+        final BitSet usedSlots = this.usedSlotMap.get(worldName);
+        if (usedSlots == null) return 0;
+        if (!usedSlots.get(slot)) return this.getUsedAmount(worldName);
+
+        this.releasedSlotMap.computeIfAbsent(worldName, key -> new BitSet()).set(slot);
+        this.worldNameMap.values().remove(worldName);
+
+        // Check if the world has no more used slots.
+        final int usedAmount = this.getUsedAmount(worldName);
+        if (usedAmount == 0) {
+            this.usedSlotMap.remove(worldName);
+            this.releasedSlotMap.remove(worldName);
+        }
+
+        return usedAmount;
+    }
+
+    /**
+     * Used to get the amount of slots in a world
+     * that are used by arenas.
+     * <p>
+     * Released slots are not included.
+     *
+     * @param worldName The name of the world.
+     * @return The amount of used slots.
+     */
+    public synchronized int getUsedAmount(@NotNull String worldName) {
+        final BitSet usedSlots = this.usedSlotMap.get(worldName);
+        if (usedSlots == null) return 0;
+
+        final BitSet releasedSlots = this.releasedSlotMap.get(worldName);
+        if (releasedSlots == null) return usedSlots.cardinality();
+        return usedSlots.cardinality() - releasedSlots.cardinality();
+    }
+
+    /**
+     * Used to get the origin of a slot.
+     * <p>
+     * The arena's map positions should be moved by this vector.
+     *
+     * @param slot The slot.
+     * @return The origin of the slot.
+     */
+    public @NotNull Vector getOrigin(int slot) {
+        return new Vector(
+                (double) (slot % this.columns) * this.spacing,
+                0,
+                (double) (slot / this.columns) * this.spacing
+        );
+    }
+}
@@ -21,12 +21,16 @@ package com.github.cozygames.api.arena;
 import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.database.record.ArenaRecord;
 import com.github.cozygames.api.database.table.ArenaTable;
+import com.github.cozygames.api.map.GlobalMap;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Represents the arena manager.
@@ -84,12 +88,13 @@ public class ArenaManager {
      * @return The list of global arenas.
      */
     public @NotNull List<GlobalArena> getArenaList() {
-        return this.api.getDatabase()
+        return this.setMaps(this.api.getDatabase()
                 .getTable(ArenaTable.class)
                 .getRecordList()
                 .stream()
                 .map(ArenaRecord::convert)
-                .toList();
+                .toList()
+        );
     }
 
     /**
@@ -99,7 +104,34 @@ public class ArenaManager {
      * @return The list of global arenas.
      */
     public @NotNull List<GlobalArena> getArenaList(@NotNull ArenaFilter arenaFilter) {
-        return arenaFilter.filterArenas(this.getArenaList());
+        return arenaFilter.filterArenas(this.setMaps(this.api.getDatabase()
+                .getTable(ArenaTable.class)
+                .getArenaRecordList(arenaFilter)
+                .stream()
+                .map(ArenaRecord::convert)
+                .toList()
+        ));
+    }
+
+    /**
+     * Used to resolve the maps of a list of arenas
+     * at the same time.
+     * <p>
+     * Arenas that use the same map will share the map instance.
+     *
+     * @param arenaList The list of arenas.
+     * @return The list of arenas.
+     */
+    private @NotNull List<GlobalArena> setMaps(@NotNull List<GlobalArena> arenaList) {
+        final Map<String, GlobalMap> mapMap = this.api.getMapManager().getMaps(
+                arenaList.stream().map(Arena::getMapIdentifier).collect(Collectors.toSet())
+        );
+
+        for (GlobalArena arena : arenaList) {
+            arena.setMap(mapMap.get(arena.getMapIdentifier()));
+        }
+
+        return arenaList;
     }
 
     /**
@@ -125,7 +157,16 @@ public class ArenaManager {
      * @return The first global arena that matches the filter.
      */
     public @NotNull Optional<GlobalArena> getFirstArena(@NotNull ArenaFilter arenaFilter) {
-        return Optional.ofNullable(arenaFilter.filterArenas(this.getArenaList()).get(0));
+
+        // Check if the database can match every filter.
+        if (!arenaFilter.requiresMap()) {
+            return this.api.getDatabase()
+                    .getTable(ArenaTable.class)
+                    .getFirstArenaRecord(arenaFilter)
+                    .map(ArenaRecord::convert);
+        }
+
+        return this.getArenaList(arenaFilter).stream().findFirst();
     }
 
     /**
@@ -139,8 +180,53 @@ public class ArenaManager {
             final Arena<?, ?> arena = record.convert();
 
             // If the game identifier matches, delete the arena.
-            if (arena.getMap().getGameIdentifier().equalsIgnoreCase(gameIdentifier)) arena.delete();
+            // The game identifier is part of the map identifier,
+            // so the map doesn't need to be requested.
+            if (arena.getMapIdentifier().split(":")[1].equalsIgnoreCase(gameIdentifier)) arena.delete();
         }
         return this;
     }
+
+    /**
+     * Used to get the list of global arenas asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @return The future list of global arenas.
+     */
+    public @NotNull CompletableFuture<List<GlobalArena>> getArenaListAsync() {
+        return this.api.supplyDatabaseAsync(this::getArenaList);
+    }
+
+    /**
+     * Used to get a filtered list of global arenas asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param arenaFilter The filter that should be used.
+     * @return The future list of global arenas.
+     */
+    public @NotNull CompletableFuture<List<GlobalArena>> getArenaListAsync(@NotNull ArenaFilter arenaFilter) {
+        return this.api.supplyDatabaseAsync(() -> this.getArenaList(arenaFilter));
+    }
+
+    /**
+     * Used to get an arena based on its identifier asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param arenaIdentifier The arena's identifier.
+     * @return The future optional global arena.
+     */
+    public @NotNull CompletableFuture<Optional<GlobalArena>> getArenaAsync(@NotNull String arenaIdentifier) {
+        return this.api.supplyDatabaseAsync(() -> this.getArena(arenaIdentifier));
+    }
+
+    /**
+     * Used to get the first global arena using a filter asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param arenaFilter The filter that should be used.
+     * @return The future first global arena that matches the filter.
+     */
+    public @NotNull CompletableFuture<Optional<GlobalArena>> getFirstArenaAsync(@NotNull ArenaFilter arenaFilter) {
+        return this.api.supplyDatabaseAsync(() -> this.getFirstArena(arenaFilter));
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.arena;
+
+import com.github.cozygames.api.logger.Logger;
+import com.github.cozygames.api.map.Map;
+import com.github.cozygames.api.plugin.CozyGamesPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents an arena pool.
+ * <p>
+ * Contains arenas for each map that have already created
+ * their world and are waiting to be activated. This means
+ * {@link Map#createArena()} can hand out an arena without
+ * waiting for a world to be created.
+ * <p>
+ * When an arena is taken from the pool a replacement is built.
+ * Each arena is built in its own task on the
+ * {@link com.github.cozygames.api.CozyGames#getMainThreadExecutor()},
+ * so building the pool is spread over multiple ticks.
+ * <p>
+ * If an arena can't be built, it is deleted and the map is
+ * tried again after a delay that doubles with each failure.
+ * After {@link ArenaPool#MAXIMUM_FAILURE_AMOUNT} failures in a row,
+ * no more arenas are built for the map.
+ *
+ * @param <A> The arena type stored in the pool.
+ * @param <M> The map type of the arenas.
+ */
+public class ArenaPool<A extends Arena<A, M>, M extends Map<M>> {
+
+    /**
+     * The amount of failed builds in a row before
+     * arenas stop being built for a map.
+     */
+    public static final int MAXIMUM_FAILURE_AMOUNT = 5;
+
+    /**
+     * The delay before building an arena again
+     * after the first failed build.
+     */
+    public static final long RETRY_DELAY_MILLIS = 5000;
+
+    private final @NotNull CozyGamesPlugin<?, A, M, ?> plugin;
+    private final @NotNull Logger logger;
+    private final int size;
+
+    private final @NotNull ConcurrentHashMap<String, Queue<A>> idleArenaMap;
+    private final @NotNull ConcurrentHashMap<String, AtomicInteger> buildingAmountMap;
+    private final @NotNull ConcurrentHashMap<String, BuildFailure> buildFailureMap;
+    private volatile boolean isClosed;
+
+    /**
+     * Used to create a new arena pool.
+     *
+     * @param plugin The instance of the plugin the arenas belong to.
+     * @param size   The amount of idle arenas to keep for each map.
+     *               If this is 0, no arenas will be pooled.
+     */
+    public ArenaPool(@NotNull CozyGamesPlugin<?, A, M, ?> plugin, int size) {
+        this.plugin = plugin;
+        this.logger = plugin.getApi().getPlugin().getLogger().createExtension("&7[ArenaPool] &5");
+        this.size = Math.max(0, size);
+
+        this.idleArenaMap = new ConcurrentHashMap<>();
+        this.buildingAmountMap = new ConcurrentHashMap<>();
+        this.buildFailureMap = new ConcurrentHashMap<>();
+        this.isClosed = false;
+    }
+
+    /**
+     * Used to get the amount of idle arenas
+     * that are kept for each map.
+     *
+     * @return The size of the pool for each map.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Used to get the amount of idle arenas
+     * in the pool for a map.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The amount of idle arenas.
+     */
+    public int getIdleAmount(@NotNull String mapIdentifier) {
+        final Queue<A> queue = this.idleArenaMap.get(mapIdentifier);
+        if (queue == null) return 0;
+        return queue.size();
+    }
+
+    /**
+     * Used to get the amount of idle arenas
+     * in the pool for every map.
+     *
+     * @return The amount of idle arenas.
+     */
+    public int getIdleAmount() {
+        int amount = 0;
+        for (Queue<A> queue : this.idleArenaMap.values()) {
+            amount += queue.size();
+        }
+        return amount;
+    }
+
+    /**
+     * Used to take an idle arena from the pool.
+     * <p>
+     * A replacement arena will be built in the background.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The optional idle arena.
+     * Empty if there are no idle arenas for the map.
+     */
+    public @NotNull Optional<A> take(@NotNull String mapIdentifier) {
+        if (this.size == 0) return Optional.empty();
+
+        final Queue<A> queue = this.idleArenaMap.get(mapIdentifier);
+        final A arena = queue == null ? null : queue.poll();
+
+        this.replenish(mapIdentifier);
+        return Optional.ofNullable(arena);
+    }
+
+    /**
+     * Used to return an arena to the pool so
+     * it can be used again.
+     * <p>
+     * This should only be used for arenas that are
+     * deactivated and have been reset to their built state.
+     * The arena will not be accepted if the pool
+     * already contains enough idle arenas for its map.
+     *
+     * @param arena The instance of the arena.
+     * @return True if the arena was added to the pool.
+     */
+    public boolean offer(@NotNull A arena) {
+        if (this.isClosed || arena.isActive() || !arena.isBuilt()) return false;
+
+        final Queue<A> queue = this.idleArenaMap.computeIfAbsent(arena.getMapIdentifier(), key -> new ConcurrentLinkedQueue<>());
+        synchronized (queue) {
+            if (queue.size() >= this.size) return false;
+            queue.add(arena);
+        }
+
+        this.logger.debug("Reused idle arena &f" + arena.getIdentifier());
+        return true;
+    }
+
+    /**
+     * Used to build arenas for a map until the
+     * pool contains the correct amount of idle arenas.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return This instance.
+     */
+    public @NotNull ArenaPool<A, M> replenish(@NotNull String mapIdentifier) {
+        if (this.isClosed) return this;
+
+        // Check if the map is waiting to be retried
+        // or has failed too many times.
+        final BuildFailure buildFailure = this.buildFailureMap.get(mapIdentifier);
+        if (buildFailure != null && (buildFailure.amount() >= MAXIMUM_FAILURE_AMOUNT
+                || System.nanoTime() - buildFailure.retryTimeNanos() < 0)) {
+            return this;
+        }
+
+        final AtomicInteger buildingAmount = this.buildingAmountMap.computeIfAbsent(mapIdentifier, key -> new AtomicInteger());
+
+        // Check if more arenas need to be built.
+        // The building amount is incremented first so
+        // multiple calls don't build too many arenas.
+        if (buildingAmount.incrementAndGet() + this.getIdleAmount(mapIdentifier) > this.size) {
+            buildingAmount.decrementAndGet();
+            return this;
+        }
+
+        this.plugin.getApi().getMainThreadExecutor().execute(() -> this.build(mapIdentifier)
+                .whenComplete((result, exception) -> {
+                    buildingAmount.decrementAndGet();
+
+                    // Check if the arena could not be built.
+                    if (exception != null) {
+                        this.onBuildFailure(mapIdentifier, exception);
+                        return;
+                    }
+
+                    // Continue building in the next task.
+                    this.buildFailureMap.remove(mapIdentifier);
+                    this.replenish(mapIdentifier);
+                })
+        );
+        return this;
+    }
+
+    /**
+     * Used to remove every idle arena from the pool
+     * and stop building new arenas.
+     * <p>
+     * The idle arenas are still stored in the local arena
+     * configuration, so they will be removed when the plugin is disabled.
+     *
+     * @return The list of arenas that were idle.
+     */
+    public @NotNull List<A> close() {
+        this.isClosed = true;
+
+        final List<A> arenaList = new ArrayList<>();
+        for (Queue<A> queue : this.idleArenaMap.values()) {
+            arenaList.addAll(queue);
+            queue.clear();
+        }
+        return arenaList;
+    }
+
+    /**
+     * Used to build a new idle arena for a map.
+     * <p>
+     * If the arena can't be built, it is deleted
+     * and the future completes exceptionally.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The future that completes when the arena is idle.
+     */
+    private @NotNull CompletableFuture<Void> build(@NotNull String mapIdentifier) {
+        if (this.isClosed) return CompletableFuture.completedFuture(null);
+
+        // Create a new arena with a unique world or grid slot.
+        final A arena;
+        try {
+            arena = this.plugin.getArenaConfiguration().createEmpty(
+                    this.plugin.createArenaIdentifier(mapIdentifier)
+            );
+        } catch (Exception exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        // Create the world and build the map
+        // before the arena becomes idle.
+        return arena.createWorldAsync()
+                .thenCompose(result -> arena.isBuilt()
+                        ? CompletableFuture.completedFuture(null)
+                        : arena.buildMap()
+                )
+                .thenRun(() -> {
+                    arena.save();
+                    this.idleArenaMap.computeIfAbsent(mapIdentifier, key -> new ConcurrentLinkedQueue<>()).add(arena);
+                    this.logger.debug("Built idle arena &f" + arena.getIdentifier());
+                })
+                .whenCompleteAsync((result, exception) -> {
+                    if (exception != null) this.discard(arena);
+                }, this.plugin.getApi().getMainThreadExecutor());
+    }
+
+    /**
+     * Used to delete an arena that could not be built,
+     * so its world, grid slot and configuration are not kept.
+     *
+     * @param arena The instance of the arena.
+     */
+    private void discard(@NotNull A arena) {
+        try {
+            arena.deleteWorld();
+            arena.delete();
+        } catch (Exception exception) {
+            this.logger.warn("Unable to delete the arena &f" + arena.getIdentifier() + "&7. " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Used to record a failed build and schedule the
+     * next attempt for the map.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @param exception     The reason the build failed.
+     */
+    private void onBuildFailure(@NotNull String mapIdentifier, @NotNull Throwable exception) {
+        final int failureAmount = this.buildFailureMap.compute(mapIdentifier, (key, buildFailure) -> {
+            final int amount = buildFailure == null ? 1 : buildFailure.amount() + 1;
+            return new BuildFailure(amount, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getRetryDelayMillis(amount)));
+        }).amount();
+
+        this.logger.warn("Unable to build an idle arena for the map &f" + mapIdentifier + "&7. " + exception.getMessage());
+
+        // Check if the map has failed too many times.
+        if (failureAmount >= MAXIMUM_FAILURE_AMOUNT) {
+            this.logger.warn("Stopped building idle arenas for the map &f" + mapIdentifier
+                    + "&7 after &f" + failureAmount + "&7 failed attempts."
+            );
+            return;
+        }
+
+        // Try again once the delay has passed.
+        CompletableFuture.runAsync(
+                () -> this.replenish(mapIdentifier),
+                CompletableFuture.delayedExecutor(this.getRetryDelayMillis(failureAmount), TimeUnit.MILLISECONDS)
+        );
+    }
+
+    /**
+     * Used to get the delay before building an arena
+     * again. The delay doubles with each failure.
+     *
+     * @param failureAmount The amount of failed builds in a row.
+     * @return The delay in milliseconds.
+     */
+    private long getRetryDelayMillis(int failureAmount) {
+        return RETRY_DELAY_MILLIS << Math.min(failureAmount - 1, 10);
+    }
+
+    /**
+     * Represents the failed builds in a row for a map.
+     *
+     * @param amount         The amount of failed builds.
+     * @param retryTimeNanos The {@link System#nanoTime()} the map can be built again.
+     */
+    private record BuildFailure(int amount, long retryTimeNanos) {
+    }
+}
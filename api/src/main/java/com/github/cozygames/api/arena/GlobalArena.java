@@ -22,7 +22,9 @@ import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.CozyGamesProvider;
 import com.github.cozygames.api.event.internal.arena.*;
 import com.github.cozygames.api.map.GlobalMap;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 
@@ -38,6 +40,14 @@ import java.util.UUID;
  */
 public class GlobalArena extends Arena<GlobalArena, GlobalMap> {
 
+    /**
+     * The resolved map instance.
+     * <p>
+     * This is not sent with kerb events and
+     * is resolved again when needed.
+     */
+    private transient @Nullable GlobalMap map;
+
     /**
      * Used to create an instance of a global arena.
      *
@@ -65,9 +75,28 @@ public class GlobalArena extends Arena<GlobalArena, GlobalMap> {
 
     @Override
     public @NotNull GlobalMap getMap() {
-        return this.getApi().getMapManager()
+        if (this.map != null) return this.map;
+
+        this.map = this.getApi().getMapManager()
                 .getMap(this.getMapIdentifier())
                 .orElseThrow();
+
+        return this.map;
+    }
+
+    /**
+     * Used to set the resolved map instance.
+     * <p>
+     * This lets a list of arenas resolve their
+     * maps at the same time.
+     *
+     * @param map The instance of the arena's map.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull GlobalArena setMap(@Nullable GlobalMap map) {
+        this.map = map;
+        return this;
     }
 
     @Override
@@ -19,13 +19,18 @@
 package com.github.cozygames.api.arena;
 
 import com.github.cozygames.api.CozyGames;
+import com.github.cozygames.api.location.Position;
 import com.github.cozygames.api.location.ServerLocation;
+import com.github.cozygames.api.location.Vector;
 import com.github.cozygames.api.map.Map;
+import com.github.cozygames.api.member.Member;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
 import com.github.cozygames.api.session.Session;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a local arena.
@@ -84,6 +89,51 @@ public abstract class LocalArena<S extends Session<A, M>, A extends Arena<A, M>,
                 .orElseThrow();
     }
 
+    /**
+     * Used to get the origin of this arena in its world.
+     * <p>
+     * When the arena is placed in an {@link ArenaGrid},
+     * this is the origin of its slot. Otherwise, the
+     * arena uses the entire world and this is zero.
+     *
+     * @return The origin of the arena.
+     */
+    public @NotNull Vector getOrigin() {
+        final Integer slot = this.getSlot().orElse(null);
+        final ArenaGrid arenaGrid = this.getPlugin().getArenaGrid().orElse(null);
+
+        if (slot == null || arenaGrid == null) return new Vector(0, 0, 0);
+        return arenaGrid.getOrigin(slot);
+    }
+
+    /**
+     * Used to get the map's spawn point moved
+     * by the {@link LocalArena#getOrigin()}.
+     *
+     * @return The spawn position in this arena.
+     * @throws NoSuchElementException When the map has no spawn point.
+     */
+    public @NotNull Position getSpawnPosition() {
+        return this.getMap().getSpawnPoint().orElseThrow().offset(this.getOrigin());
+    }
+
+    /**
+     * Used to release this arena's slot in the {@link ArenaGrid}.
+     * <p>
+     * This should be called when deleting the world, as the
+     * world may still be used by other arenas.
+     *
+     * @return True if the world is still used by other arenas
+     * and should not be deleted.
+     */
+    public boolean releaseSlot() {
+        final Integer slot = this.getSlot().orElse(null);
+        final ArenaGrid arenaGrid = this.getPlugin().getArenaGrid().orElse(null);
+
+        if (slot == null || arenaGrid == null) return false;
+        return arenaGrid.release(this.getWorldName(), slot) > 0;
+    }
+
     @Override
     public @NotNull A activate(@NotNull UUID groupIdentifier) {
 
@@ -97,43 +147,98 @@ public abstract class LocalArena<S extends Session<A, M>, A extends Arena<A, M>,
         // Register session.
         this.getPlugin().getSessionManager().registerSession(session);
 
-        // Teleport players.
-        this.getGroup().orElseThrow().getMembers().forEach(
-                member -> member.teleport(new ServerLocation(
-                        this.getApi().getServerName(),
-                        this.getWorldName(),
-                        this.getMap().getSpawnPoint().orElseThrow()
-                ))
-        );
+        // Build the map if it hasn't been built yet.
+        // Then prepare and teleport players on the main thread.
+        final CompletableFuture<Void> buildFuture = this.isBuilt()
+                ? CompletableFuture.completedFuture(null)
+                : this.buildMap();
+
+        buildFuture.thenComposeAsync(ignored -> this.prepareTeleport(), this.getApi().getMainThreadExecutor())
+                .thenRunAsync(this::teleportGroup, this.getApi().getMainThreadExecutor())
+                .exceptionally(exception -> {
+                    this.getApi().getLogger().warn("Unable to build the map and teleport the group in the arena &f" + this.getIdentifier() + "&7. " + exception.getMessage());
+                    return null;
+                });
         return (A) this;
     }
 
+    /**
+     * Used to prepare the arena before the
+     * group is teleported to it.
+     * <p>
+     * This is called on the main thread after the map
+     * is built. Platforms can override this to load the
+     * area around the spawn position.
+     *
+     * @return The future that completes when the group can be teleported.
+     */
+    protected @NotNull CompletableFuture<Void> prepareTeleport() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Used to teleport the members of the arena's
+     * group to the arena's spawn position.
+     * <p>
+     * The members are sent in a single teleport event.
+     */
+    private void teleportGroup() {
+        Member.teleportAll(this.getGroup().orElseThrow(), new ServerLocation(
+                this.getApi().getServerName(),
+                this.getWorldName(),
+                this.getSpawnPosition()
+        ));
+    }
+
     @Override
     public @NotNull A deactivate() {
 
+        // Stop and unregister the session.
+        this.stopSession();
+
+        // Delete world.
+        this.deleteWorld();
+        return (A) this;
+    }
+
+    /**
+     * Used to stop and unregister this arena's
+     * session if it exists.
+     *
+     * @return This instance.
+     */
+    protected @NotNull A stopSession() {
+
         // Stop session if exists.
         this.getPlugin().getSessionManager()
                 .getSession(this.getIdentifier())
-                .ifPresent(Session::startAllComponents);
+                .ifPresent(Session::stopAllComponents);
 
         // Unregister session if exists.
         this.getPlugin().getSessionManager()
                 .unregisterSession(this.getIdentifier());
-
-        // Delete world.
-        this.deleteWorld();
         return (A) this;
     }
 
     @Override
     public @NotNull A saveToLocalConfiguration() {
         this.getPlugin().getArenaConfiguration().insertType(this.getIdentifier(), (A) this);
+
+        // Update the arena instance bound to the session.
+        this.getPlugin().getSessionManager()
+                .getSession(this.getIdentifier())
+                .ifPresent(session -> session.setArena((A) this));
         return (A) this;
     }
 
     @Override
     public @NotNull A deleteFromLocalConfiguration() {
         this.getPlugin().getArenaConfiguration().removeType(this.getIdentifier());
+
+        // Unbind the arena instance from the session.
+        this.getPlugin().getSessionManager()
+                .getSession(this.getIdentifier())
+                .ifPresent(session -> session.setArena(null));
         return (A) this;
     }
 }
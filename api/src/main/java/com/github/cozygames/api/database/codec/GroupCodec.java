@@ -0,0 +1,110 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.group.Group;
+import com.github.cozygames.api.member.Member;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the group codec.
+ * <p>
+ * Encodes a {@link Group} and its list of members as a json object.
+ * The keys match the fields of the group class, so groups
+ * stored before this codec existed can still be decoded.
+ */
+public class GroupCodec extends JsonRecordCodec<Group> {
+
+    @Override
+    public void write(@NotNull JsonWriter writer, @NotNull Group group) throws IOException {
+        writer.beginObject();
+        writer.name("identifier").value(group.getIdentifier().toString());
+
+        // Write the members.
+        writer.name("memberList").beginArray();
+        for (Member member : group.getMembers()) {
+            writer.beginObject();
+            writer.name("uuid").value(member.getUuid().toString());
+            writer.name("name").value(member.getName());
+            writer.endObject();
+        }
+        writer.endArray();
+
+        writer.name("gameIdentifier").value(group.getGameIdentifier());
+        writer.endObject();
+    }
+
+    @Override
+    public @NotNull Group read(@NotNull JsonReader reader) throws IOException {
+        UUID identifier = null;
+        String gameIdentifier = null;
+        List<Member> memberList = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifier" -> identifier = UUID.fromString(reader.nextString());
+                case "memberList" -> memberList = this.readMemberList(reader);
+                case "gameIdentifier" -> gameIdentifier = reader.nextString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        // Check if the required values were found.
+        if (identifier == null || gameIdentifier == null) {
+            throw new IOException("Group json is missing the identifier or game identifier.");
+        }
+
+        return new Group(identifier, gameIdentifier).addMemberList(memberList);
+    }
+
+    private @NotNull List<Member> readMemberList(@NotNull JsonReader reader) throws IOException {
+        final List<Member> memberList = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String uuid = null;
+            String name = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "uuid" -> uuid = reader.nextString();
+                    case "name" -> name = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (uuid == null || name == null) continue;
+            memberList.add(new Member(UUID.fromString(uuid), name));
+        }
+        reader.endArray();
+
+        return memberList;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Represents a record codec that reads and writes
+ * json using a stream.
+ * <p>
+ * Implementations write each field directly, so values
+ * are not converted into a map first and no reflection is used.
+ *
+ * @param <T> The type of value the codec encodes.
+ */
+public abstract class JsonRecordCodec<T> implements RecordCodec<T> {
+
+    /**
+     * Used to write the value to the json writer.
+     *
+     * @param writer The instance of the json writer.
+     * @param value  The value to write.
+     * @throws IOException If the value could not be written.
+     */
+    public abstract void write(@NotNull JsonWriter writer, @NotNull T value) throws IOException;
+
+    /**
+     * Used to read the value from the json reader.
+     *
+     * @param reader The instance of the json reader.
+     * @return The value that was read.
+     * @throws IOException If the value could not be read.
+     */
+    public abstract @NotNull T read(@NotNull JsonReader reader) throws IOException;
+
+    @Override
+    public @NotNull String encode(@NotNull T value) {
+        final StringWriter stringWriter = new StringWriter();
+
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            this.write(writer, value);
+        } catch (IOException exception) {
+            throw new RecordCodecException("Unable to encode " + value.getClass().getSimpleName() + ".", exception);
+        }
+
+        return stringWriter.toString();
+    }
+
+    @Override
+    public @NotNull T decode(@NotNull String json) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return this.read(reader);
+        } catch (IOException | IllegalStateException exception) {
+            throw new RecordCodecException("Unable to decode " + json + ".", exception);
+        }
+    }
+}
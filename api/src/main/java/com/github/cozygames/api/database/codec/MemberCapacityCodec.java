@@ -0,0 +1,112 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.member.MemberCapacity;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the member capacity codec.
+ * <p>
+ * Encodes a {@link MemberCapacity} as a json object
+ * containing its bitset words. A json array of the
+ * possible capacities can still be read, as this was
+ * the format used before.
+ */
+public class MemberCapacityCodec extends JsonRecordCodec<MemberCapacity> {
+
+    @Override
+    public void write(@NotNull JsonWriter writer, @NotNull MemberCapacity capacity) throws IOException {
+        writer.beginObject();
+
+        writer.name("words").beginArray();
+        for (long word : capacity.getWords()) {
+            writer.value(word);
+        }
+        writer.endArray();
+
+        writer.endObject();
+    }
+
+    @Override
+    public @NotNull MemberCapacity read(@NotNull JsonReader reader) throws IOException {
+
+        // Check if the capacity uses the old array format.
+        if (reader.peek() == JsonToken.BEGIN_ARRAY) return this.readList(reader);
+
+        MemberCapacity capacity = new MemberCapacity();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "words" -> capacity = MemberCapacity.fromWords(this.readWords(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return capacity;
+    }
+
+    /**
+     * Used to read an array of bitset words.
+     *
+     * @param reader The json reader.
+     * @return The bitset words.
+     * @throws IOException If the json is malformed.
+     */
+    private long @NotNull [] readWords(@NotNull JsonReader reader) throws IOException {
+        final List<Long> wordList = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            wordList.add(reader.nextLong());
+        }
+        reader.endArray();
+
+        return wordList.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Used to read the old format, an array
+     * of the possible capacities.
+     *
+     * @param reader The json reader.
+     * @return The member capacity.
+     * @throws IOException If the json is malformed.
+     */
+    private @NotNull MemberCapacity readList(@NotNull JsonReader reader) throws IOException {
+        final MemberCapacity capacity = new MemberCapacity();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            capacity.addPossibleCapacity(reader.nextInt());
+        }
+        reader.endArray();
+
+        return capacity;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.location.Position;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Represents the position codec.
+ * <p>
+ * Encodes a {@link Position} as a json object
+ * with the keys x, y, z, yaw and pitch.
+ */
+public class PositionCodec extends JsonRecordCodec<Position> {
+
+    @Override
+    public void write(@NotNull JsonWriter writer, @NotNull Position position) throws IOException {
+        writer.beginObject();
+        writer.name("x").value(position.getX());
+        writer.name("y").value(position.getY());
+        writer.name("z").value(position.getZ());
+        writer.name("yaw").value(position.getYaw());
+        writer.name("pitch").value(position.getPitch());
+        writer.endObject();
+    }
+
+    @Override
+    public @NotNull Position read(@NotNull JsonReader reader) throws IOException {
+        double x = 0;
+        double y = 0;
+        double z = 0;
+        float yaw = 0;
+        float pitch = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x" -> x = reader.nextDouble();
+                case "y" -> y = reader.nextDouble();
+                case "z" -> z = reader.nextDouble();
+                case "yaw" -> yaw = (float) reader.nextDouble();
+                case "pitch" -> pitch = (float) reader.nextDouble();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Position(x, y, z, yaw, pitch);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a record codec.
+ * <p>
+ * Used to encode a value into a json string that can be
+ * stored in a record column and decode it back into the value.
+ *
+ * @param <T> The type of value the codec encodes.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Used to encode a value into a json string.
+     *
+     * @param value The value to encode.
+     * @return The json string.
+     * @throws RecordCodecException If the value could not be encoded.
+     */
+    @NotNull
+    String encode(@NotNull T value);
+
+    /**
+     * Used to decode a json string back into the value.
+     *
+     * @param json The json string.
+     * @return The decoded value.
+     * @throws RecordCodecException If the json string could not be decoded.
+     */
+    @NotNull
+    T decode(@NotNull String json);
+}
@@ -0,0 +1,38 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown when a {@link RecordCodec} is unable
+ * to encode or decode a value.
+ */
+public class RecordCodecException extends RuntimeException {
+
+    /**
+     * Used to create a record codec exception.
+     *
+     * @param message The message to display.
+     * @param cause   The exception that caused this exception.
+     */
+    public RecordCodecException(@NotNull String message, @NotNull Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.group.Group;
+import com.github.cozygames.api.location.Position;
+import com.github.cozygames.api.member.MemberCapacity;
+import com.github.cozygames.api.schematic.Schematic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contains the shared {@link RecordCodec} instances.
+ * <p>
+ * The codecs don't contain state, so the same
+ * instances can be used by every record and table.
+ */
+public final class RecordCodecs {
+
+    public static final @NotNull RecordCodec<Position> POSITION = new PositionCodec();
+    public static final @NotNull RecordCodec<MemberCapacity> MEMBER_CAPACITY = new MemberCapacityCodec();
+    public static final @NotNull RecordCodec<Schematic> SCHEMATIC = new SchematicCodec();
+    public static final @NotNull RecordCodec<List<UUID>> UUID_LIST = new UuidListCodec();
+    public static final @NotNull RecordCodec<Group> GROUP = new GroupCodec();
+
+    private RecordCodecs() {
+    }
+}
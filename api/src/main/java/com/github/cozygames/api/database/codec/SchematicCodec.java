@@ -0,0 +1,61 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.schematic.Schematic;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Represents the schematic codec.
+ * <p>
+ * Encodes a {@link Schematic} as a json object
+ * containing its identifier.
+ */
+public class SchematicCodec extends JsonRecordCodec<Schematic> {
+
+    @Override
+    public void write(@NotNull JsonWriter writer, @NotNull Schematic schematic) throws IOException {
+        writer.beginObject();
+
+        final String identifier = schematic.getIdentifier().orElse(null);
+        if (identifier != null) writer.name("identifier").value(identifier);
+
+        writer.endObject();
+    }
+
+    @Override
+    public @NotNull Schematic read(@NotNull JsonReader reader) throws IOException {
+        final Schematic schematic = new Schematic();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifier" -> schematic.setIdentifier(reader.nextString());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return schematic;
+    }
+}
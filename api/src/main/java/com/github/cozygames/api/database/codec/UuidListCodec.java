@@ -0,0 +1,58 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the uuid list codec.
+ * <p>
+ * Encodes a list of uuids as a json array of strings.
+ */
+public class UuidListCodec extends JsonRecordCodec<List<UUID>> {
+
+    @Override
+    public void write(@NotNull JsonWriter writer, @NotNull List<UUID> uuidList) throws IOException {
+        writer.beginArray();
+        for (UUID uuid : uuidList) {
+            writer.value(uuid.toString());
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public @NotNull List<UUID> read(@NotNull JsonReader reader) throws IOException {
+        final List<UUID> uuidList = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            uuidList.add(UUID.fromString(reader.nextString()));
+        }
+        reader.endArray();
+
+        return uuidList;
+    }
+}
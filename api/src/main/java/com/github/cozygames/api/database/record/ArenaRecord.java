@@ -42,9 +42,24 @@ public class ArenaRecord extends Record implements RecordConvertable<GlobalArena
      * These variables will not change once created.
      */
     @Field(type = RecordFieldType.PRIMARY)
+    public String identifier;
     public String mapIdentifier;
     public String worldName;
 
+    /**
+     * The parts of the map identifier.
+     * <p>
+     * These are stored separately so an {@link com.github.cozygames.api.arena.ArenaFilter}
+     * can be matched by the database.
+     * <p>
+     * The map identifier, world name and these parts are
+     * stored in lower case, as filters ignore case.
+     */
+    public String serverName;
+    public String gameIdentifier;
+    public String mapName;
+    public String lowerCaseIdentifier;
+
     /**
      * Changeable variables.
      * <p>
@@ -54,8 +69,14 @@ public class ArenaRecord extends Record implements RecordConvertable<GlobalArena
 
     @Override
     public @NotNull GlobalArena convert() {
-        GlobalArena globalArena = new GlobalArena(this.mapIdentifier, this.worldName);
-        globalArena.setGroupIdentifier(UUID.fromString(this.groupIdentifier));
+
+        // Arenas saved before the identifier column existed
+        // are identified by their map identifier and world name.
+        GlobalArena globalArena = this.identifier == null
+                ? new GlobalArena(this.mapIdentifier, this.worldName)
+                : new GlobalArena(this.identifier);
+
+        if (this.groupIdentifier != null) globalArena.setGroupIdentifier(UUID.fromString(this.groupIdentifier));
         return globalArena;
     }
 }
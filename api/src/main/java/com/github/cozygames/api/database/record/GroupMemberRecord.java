@@ -0,0 +1,49 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.record;
+
+import com.github.cozygames.api.group.Group;
+import com.github.smuddgge.squishydatabase.record.Field;
+import com.github.smuddgge.squishydatabase.record.Record;
+import com.github.smuddgge.squishydatabase.record.RecordFieldType;
+
+/**
+ * Represents the group member record.
+ * <p>
+ * Links a player to the {@link Group} they are in,
+ * so a player's group can be found using a
+ * single lookup by the player's uuid.
+ */
+public class GroupMemberRecord extends Record {
+
+    /**
+     * Final variables.
+     * <p>
+     * These variables will not change once created.
+     */
+    @Field(type = RecordFieldType.PRIMARY)
+    public String playerUuid;
+
+    /**
+     * Changeable variables.
+     * <p>
+     * These variables may be changed in the database.
+     */
+    public String groupIdentifier;
+}
@@ -18,13 +18,12 @@
 
 package com.github.cozygames.api.database.record;
 
+import com.github.cozygames.api.database.codec.RecordCodecs;
 import com.github.cozygames.api.group.Group;
-import com.github.cozygames.api.group.GroupType;
 import com.github.cozygames.api.indicator.RecordConvertable;
 import com.github.smuddgge.squishydatabase.record.Field;
 import com.github.smuddgge.squishydatabase.record.Record;
 import com.github.smuddgge.squishydatabase.record.RecordFieldType;
-import com.google.gson.Gson;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -57,16 +56,14 @@ public class GroupRecord extends Record implements RecordConvertable<Group> {
     /**
      * The group type and the instance of the group class as a json string.
      * <p>
-     * You can convert this back into the specific group class
-     * by first converting the json back into a map. Then you can convert
-     * the map into the specific group class using the group factory.
+     * The json string is written and read using
+     * the {@link RecordCodecs#GROUP} codec.
      */
     public String groupType;
     public String groupJson;
 
     @Override
     public @NotNull Group convert() {
-        GroupType type = GroupType.valueOf(groupType.toUpperCase());
-        return new Gson().fromJson(groupJson, type.getGroupClass());
+        return RecordCodecs.GROUP.decode(this.groupJson);
     }
 }
@@ -18,23 +18,15 @@
 
 package com.github.cozygames.api.database.record;
 
+import com.github.cozygames.api.database.codec.RecordCodecs;
 import com.github.cozygames.api.indicator.RecordConvertable;
 import com.github.cozygames.api.item.ItemMaterial;
-import com.github.cozygames.api.location.Position;
 import com.github.cozygames.api.map.GlobalMap;
 import com.github.cozygames.api.map.Map;
-import com.github.cozygames.api.member.MemberCapacity;
-import com.github.cozygames.api.schematic.Schematic;
-import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
-import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
 import com.github.smuddgge.squishydatabase.record.Field;
 import com.github.smuddgge.squishydatabase.record.Record;
 import com.github.smuddgge.squishydatabase.record.RecordFieldType;
-import com.google.gson.Gson;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-import java.util.HashMap;
 
 /**
  * Represents the map record.
@@ -75,11 +67,11 @@ public class MapRecord extends Record implements RecordConvertable<GlobalMap> {
         map.setPermission(permission);
 
         if (schematicClass != null) {
-            map.setSchematic(new Schematic().convert(this.asConfigurationSection(schematicClass)));
+            map.setSchematic(RecordCodecs.SCHEMATIC.decode(this.schematicClass));
         }
 
         if (capacityClass != null) {
-            map.setCapacity(new MemberCapacity().convert(this.asConfigurationSection(capacityClass)));
+            map.setCapacity(RecordCodecs.MEMBER_CAPACITY.decode(this.capacityClass));
         }
 
         if (itemMaterialEnum != null) {
@@ -87,20 +79,9 @@ public class MapRecord extends Record implements RecordConvertable<GlobalMap> {
         }
 
         if (spawnPointPositionClass != null) {
-            map.setSpawnPoint(new Position(0, 0, 0).convert(this.asConfigurationSection(spawnPointPositionClass)));
+            map.setSpawnPoint(RecordCodecs.POSITION.decode(this.spawnPointPositionClass));
         }
 
         return map;
     }
-
-    /**
-     * Used to convert a json string into a configuration section.
-     *
-     * @param json The nullable json string.
-     * @return The nullable configuration section.
-     */
-    private @Nullable ConfigurationSection asConfigurationSection(@Nullable String json) {
-        if (json == null) return null;
-        return new MemoryConfigurationSection(new Gson().fromJson(json, HashMap.class));
-    }
 }
@@ -19,12 +19,16 @@
 package com.github.cozygames.api.database.table;
 
 import com.github.cozygames.api.arena.Arena;
+import com.github.cozygames.api.arena.ArenaFilter;
+import com.github.cozygames.api.arena.GlobalArena;
 import com.github.cozygames.api.database.record.ArenaRecord;
 import com.github.cozygames.api.map.Map;
 import com.github.smuddgge.squishydatabase.Query;
 import com.github.smuddgge.squishydatabase.interfaces.TableAdapter;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -47,18 +51,47 @@ public class ArenaTable extends TableAdapter<ArenaRecord> {
      * @return The optional arena record.
      */
     public @NotNull Optional<ArenaRecord> getArenaRecord(String identifier) {
-        final String mapIdentifier = Map.getIdentifier(identifier);
-        final String worldName = identifier.split(":")[3];
 
         // Get the first record with the correct identifier.
         ArenaRecord record = this.getFirstRecord(new Query()
-                .match("mapIdentifier", mapIdentifier)
-                .match("worldName", worldName)
+                .match("identifier", identifier)
         );
 
         return Optional.ofNullable(record);
     }
 
+    /**
+     * Used to get the list of arena records that match
+     * the filters that can be checked by the database.
+     * <p>
+     * The records should still be filtered using
+     * {@link ArenaFilter#filterArenas(List)}.
+     *
+     * @param arenaFilter The arena filter.
+     * @return The list of arena records.
+     */
+    public @NotNull List<ArenaRecord> getArenaRecordList(@NotNull ArenaFilter arenaFilter) {
+        final Query query = arenaFilter.getQuery().orElse(null);
+        if (query == null) return this.getRecordList();
+        return this.getRecordList(query);
+    }
+
+    /**
+     * Used to get the first arena record that matches
+     * the filters that can be checked by the database.
+     * <p>
+     * This will only return a single record, so it should only be used
+     * when the filter doesn't {@link ArenaFilter#requiresMap()}.
+     *
+     * @param arenaFilter The arena filter.
+     * @return The optional arena record.
+     */
+    public @NotNull Optional<ArenaRecord> getFirstArenaRecord(@NotNull ArenaFilter arenaFilter) {
+        final Query query = arenaFilter.getQuery().orElse(null);
+        if (query == null) return Optional.ofNullable(this.getFirstRecord(new Query()));
+        return Optional.ofNullable(this.getFirstRecord(query));
+    }
+
     /**
      * Used to insert an arena instance into
      * the arena table.
@@ -70,8 +103,17 @@ public class ArenaTable extends TableAdapter<ArenaRecord> {
 
         // Create the arena record.
         ArenaRecord record = new ArenaRecord();
-        record.mapIdentifier = arena.getMapIdentifier();
-        record.worldName = arena.getWorldName();
+        record.identifier = arena.getIdentifier();
+
+        // The filter columns are stored in lower case,
+        // so the database will ignore case when matching them.
+        final String mapIdentifier = arena.getMapIdentifier().toLowerCase(Locale.ROOT);
+        record.mapIdentifier = mapIdentifier;
+        record.worldName = arena.getWorldName().toLowerCase(Locale.ROOT);
+        record.serverName = mapIdentifier.split(":")[0];
+        record.gameIdentifier = mapIdentifier.split(":")[1];
+        record.mapName = Map.getName(mapIdentifier);
+        record.lowerCaseIdentifier = arena.getIdentifier().toLowerCase(Locale.ROOT);
 
         arena.getGroupIdentifier().ifPresent(
                 groupIdentifier -> record.groupIdentifier = groupIdentifier.toString()
@@ -82,6 +124,43 @@ public class ArenaTable extends TableAdapter<ArenaRecord> {
         return this;
     }
 
+    /**
+     * Used to update the arena records that were saved
+     * before the identifier and filter columns existed.
+     * <p>
+     * These records are removed and inserted again
+     * with every column set.
+     *
+     * @return The amount of records that were updated.
+     */
+    public int migrate() {
+        int amount = 0;
+
+        for (ArenaRecord record : this.getRecordList()) {
+
+            // Check if the record already has every column.
+            if (record.identifier != null && record.lowerCaseIdentifier != null) continue;
+            if (record.identifier == null && (record.mapIdentifier == null || record.worldName == null)) continue;
+
+            final GlobalArena arena = record.convert();
+
+            // Remove the old record.
+            if (record.identifier == null) {
+                this.removeAllRecords(new Query()
+                        .match("mapIdentifier", record.mapIdentifier)
+                        .match("worldName", record.worldName)
+                );
+            } else {
+                this.removeArena(record.identifier);
+            }
+
+            this.insertArena(arena);
+            amount++;
+        }
+
+        return amount;
+    }
+
     /**
      * Used to remove an arena from the database.
      *
@@ -90,12 +169,8 @@ public class ArenaTable extends TableAdapter<ArenaRecord> {
      */
     @SuppressWarnings("all")
     public @NotNull ArenaTable removeArena(@NotNull String identifier) {
-        final String mapIdentifier = Map.getIdentifier(identifier);
-        final String worldName = identifier.split(":")[3];
-
         this.removeAllRecords(new Query()
-                .match("mapIdentifier", mapIdentifier)
-                .match("worldName", worldName)
+                .match("identifier", identifier)
         );
         return this;
     }
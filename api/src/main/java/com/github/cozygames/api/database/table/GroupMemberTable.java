@@ -0,0 +1,140 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.table;
+
+import com.github.cozygames.api.database.record.GroupMemberRecord;
+import com.github.cozygames.api.database.record.GroupRecord;
+import com.github.cozygames.api.group.Group;
+import com.github.smuddgge.squishydatabase.Query;
+import com.github.smuddgge.squishydatabase.interfaces.TableAdapter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Represents the group member table.
+ * <p>
+ * Used to read and write {@link GroupMemberRecord}'s
+ * to the database.
+ * <p>
+ * This table is kept in sync by the {@link GroupTable}
+ * when a group is inserted or removed.
+ */
+public class GroupMemberTable extends TableAdapter<GroupMemberRecord> {
+
+    @Override
+    public @NotNull String getName() {
+        return "group_members";
+    }
+
+    /**
+     * Used to get the identifier of the group
+     * a player is in.
+     *
+     * @param playerUuid The player's uuid.
+     * @return The optional group identifier.
+     */
+    public @NotNull Optional<UUID> getGroupIdentifier(@NotNull UUID playerUuid) {
+
+        // Get the record for the player.
+        GroupMemberRecord record = this.getFirstRecord(
+                new Query().match("playerUuid", playerUuid.toString())
+        );
+
+        if (record == null) return Optional.empty();
+        return Optional.of(UUID.fromString(record.groupIdentifier));
+    }
+
+    /**
+     * Used to check if the table contains
+     * any members of a group.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return True if the group has members in the table.
+     */
+    public boolean containsGroup(@NotNull UUID groupIdentifier) {
+        return this.getFirstRecord(
+                new Query().match("groupIdentifier", groupIdentifier.toString())
+        ) != null;
+    }
+
+    /**
+     * Used to add the members of groups that were
+     * saved before this table existed.
+     * <p>
+     * Groups that already have members in this
+     * table will be skipped.
+     *
+     * @param groupTable The instance of the group table.
+     * @return The amount of groups that were added.
+     */
+    public int backfill(@NotNull GroupTable groupTable) {
+        int amount = 0;
+
+        for (GroupRecord record : groupTable.getRecordList()) {
+            final Group group = record.convert();
+
+            // Check if the group's members were already added.
+            if (group.getMemberUuids().isEmpty()) continue;
+            if (this.containsGroup(group.getIdentifier())) continue;
+
+            this.insertGroupMembers(group);
+            amount++;
+        }
+
+        return amount;
+    }
+
+    /**
+     * Used to insert the group's members into the table.
+     * <p>
+     * Players that are no longer in the group will be removed.
+     *
+     * @param group The instance of the group.
+     * @return This instance.
+     */
+    public @NotNull GroupMemberTable insertGroupMembers(@NotNull Group group) {
+
+        // Remove the group's previous members.
+        this.removeGroupMembers(group);
+
+        // Insert a record for each member.
+        for (UUID playerUuid : group.getMemberUuids()) {
+            GroupMemberRecord record = new GroupMemberRecord();
+            record.playerUuid = playerUuid.toString();
+            record.groupIdentifier = group.getIdentifier().toString();
+
+            this.insertRecord(record);
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to remove the group's members from the table.
+     *
+     * @param group The instance of the group.
+     * @return This instance.
+     */
+    public @NotNull GroupMemberTable removeGroupMembers(@NotNull Group group) {
+        this.removeAllRecords(new Query().match("groupIdentifier", group.getIdentifier().toString()));
+        return this;
+    }
+}
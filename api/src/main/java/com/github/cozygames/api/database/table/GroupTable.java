@@ -18,11 +18,12 @@
 
 package com.github.cozygames.api.database.table;
 
+import com.github.cozygames.api.CozyGamesProvider;
+import com.github.cozygames.api.database.codec.RecordCodecs;
 import com.github.cozygames.api.database.record.GroupRecord;
 import com.github.cozygames.api.group.Group;
 import com.github.smuddgge.squishydatabase.Query;
 import com.github.smuddgge.squishydatabase.interfaces.TableAdapter;
-import com.google.gson.Gson;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
@@ -33,6 +34,9 @@ import java.util.UUID;
  * <p>
  * Used to read and write {@link GroupRecord}'s
  * to the database.
+ * <p>
+ * The {@link GroupMemberTable} is kept in sync with
+ * this table, so groups can be found by a player's uuid.
  */
 public class GroupTable extends TableAdapter<GroupRecord> {
 
@@ -59,11 +63,9 @@ public class GroupTable extends TableAdapter<GroupRecord> {
      * @return The optional group record.
      */
     public @NotNull Optional<GroupRecord> getGroupRecordFromPlayer(@NotNull UUID playerUuid) {
-        for (GroupRecord record : this.getRecordList()) {
-            final Group group = record.convert();
-            if (group.getMemberUuids().contains(playerUuid)) return Optional.of(record);
-        }
-        return Optional.empty();
+        return this.getGroupMemberTable()
+                .getGroupIdentifier(playerUuid)
+                .flatMap(this::getGroupRecord);
     }
 
     /**
@@ -78,11 +80,14 @@ public class GroupTable extends TableAdapter<GroupRecord> {
         GroupRecord record = new GroupRecord();
         record.identifier = group.getIdentifier().toString();
         record.gameIdentifier = group.getGameIdentifier();
-        record.playerUuidList = new Gson().toJson(group.getMemberUuids());
+        record.playerUuidList = RecordCodecs.UUID_LIST.encode(group.getMemberUuids());
         record.groupType = group.getType().name();
-        record.groupJson = new Gson().toJson(group);
+        record.groupJson = RecordCodecs.GROUP.encode(group);
 
         this.insertRecord(record);
+
+        // Update the group's members.
+        this.getGroupMemberTable().insertGroupMembers(group);
         return this;
     }
 
@@ -94,6 +99,15 @@ public class GroupTable extends TableAdapter<GroupRecord> {
      */
     public @NotNull GroupTable removeGroup(@NotNull Group group) {
         this.removeAllRecords(new Query().match("identifier", group.getIdentifier().toString()));
+
+        // Remove the group's members.
+        this.getGroupMemberTable().removeGroupMembers(group);
         return this;
     }
+
+    private @NotNull GroupMemberTable getGroupMemberTable() {
+        return CozyGamesProvider.get()
+                .getDatabase()
+                .getTable(GroupMemberTable.class);
+    }
 }
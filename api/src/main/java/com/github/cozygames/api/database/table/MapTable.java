@@ -18,14 +18,12 @@
 
 package com.github.cozygames.api.database.table;
 
+import com.github.cozygames.api.database.codec.RecordCodecs;
 import com.github.cozygames.api.database.record.MapRecord;
 import com.github.cozygames.api.map.Map;
-import com.github.smuddgge.squishyconfiguration.indicator.ConfigurationConvertable;
 import com.github.smuddgge.squishydatabase.Query;
 import com.github.smuddgge.squishydatabase.interfaces.TableAdapter;
-import com.google.gson.Gson;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 
@@ -84,21 +82,17 @@ public class MapTable extends TableAdapter<MapRecord> {
         record.gameIdentifier = map.getGameIdentifier();
 
         record.maximumSessionAmount = map.getMaximumSessionAmount();
-        record.schematicClass = this.asJson(map.getSchematic().orElse(null));
-        record.capacityClass = this.asJson(map.getCapacity().orElse(null));
+        record.permission = map.getPermission().orElse(null);
+        record.schematicClass = map.getSchematic().map(RecordCodecs.SCHEMATIC::encode).orElse(null);
+        record.capacityClass = map.getCapacity().map(RecordCodecs.MEMBER_CAPACITY::encode).orElse(null);
         map.getItemMaterial().ifPresent(material -> record.itemMaterialEnum = material.name());
-        record.spawnPointPositionClass = this.asJson(map.getSpawnPoint().orElse(null));
+        record.spawnPointPositionClass = map.getSpawnPoint().map(RecordCodecs.POSITION::encode).orElse(null);
 
         // Insert the record.
         this.insertRecord(record);
         return this;
     }
 
-    private @Nullable String asJson(@Nullable ConfigurationConvertable<?> convertable) {
-        if (convertable == null) return null;
-        return new Gson().toJson(convertable.asMap());
-    }
-
     /**
      * Used to remove a map from the database.
      *
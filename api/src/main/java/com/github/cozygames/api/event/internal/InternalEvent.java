@@ -21,6 +21,8 @@ package com.github.cozygames.api.event.internal;
 import com.github.kerbity.kerb.indicator.Completable;
 import com.github.kerbity.kerb.packet.event.Event;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Indicates if a class is an internal event.
@@ -30,4 +32,44 @@ import org.jetbrains.annotations.ApiStatus;
  */
 @ApiStatus.Internal
 public abstract class InternalEvent extends Event implements Completable<InternalEvent> {
+
+    private @Nullable String targetServerName;
+
+    /**
+     * Used to get the name of the server this event is for.
+     * <p>
+     * If null, the event is for every server.
+     *
+     * @return The target server name.
+     */
+    public @Nullable String getTargetServerName() {
+        return this.targetServerName;
+    }
+
+    /**
+     * Used to set the name of the server this event is for.
+     * <p>
+     * Other servers will ignore the event
+     * before doing any work.
+     *
+     * @param targetServerName The target server name.
+     *                         Null to send to every server.
+     * @return This instance.
+     */
+    public @NotNull InternalEvent setTargetServerName(@Nullable String targetServerName) {
+        this.targetServerName = targetServerName;
+        return this;
+    }
+
+    /**
+     * Used to check if this event should be
+     * handled by a server.
+     *
+     * @param serverName The name of the server.
+     * @return True if the event is for the server.
+     */
+    public boolean isTargetServer(@NotNull String serverName) {
+        final String targetServerName = this.getTargetServerName();
+        return targetServerName == null || targetServerName.equals(serverName);
+    }
 }
@@ -42,6 +42,34 @@ public abstract class ArenaEvent extends InternalEvent {
      */
     public abstract @NotNull String getArenaIdentifier();
 
+    /**
+     * Used to get the name of the server that contains the arena.
+     * <p>
+     * Arena identifiers start with the server name,
+     * so this doesn't need the arena instance.
+     *
+     * @return The server name.
+     */
+    public @NotNull String getServerName() {
+        final String arenaIdentifier = this.getArenaIdentifier();
+        final int index = arenaIdentifier.indexOf(':');
+        return index < 0 ? arenaIdentifier : arenaIdentifier.substring(0, index);
+    }
+
+    /**
+     * Used to get the name of the server this event is for.
+     * <p>
+     * Unless set, this will be the server
+     * that contains the arena.
+     *
+     * @return The target server name.
+     */
+    @Override
+    public @NotNull String getTargetServerName() {
+        final String targetServerName = super.getTargetServerName();
+        return targetServerName == null ? this.getServerName() : targetServerName;
+    }
+
     /**
      * Used to execute the method of the local {@link Arena}.
      * <p>
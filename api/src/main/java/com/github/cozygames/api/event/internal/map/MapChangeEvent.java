@@ -0,0 +1,89 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.event.internal.map;
+
+import com.github.cozygames.api.event.internal.InternalEvent;
+import com.github.cozygames.api.map.MapManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the map change event.
+ * <p>
+ * Called when a map has been saved to or deleted from
+ * the database, so other api connections can reload the map
+ * in their {@link MapManager} map catalog.
+ * <p>
+ * Unlike a {@link MapEvent} this event is handled by
+ * every api connection, not only the connection
+ * that contains the local map.
+ */
+public class MapChangeEvent extends InternalEvent {
+
+    private final @NotNull String mapIdentifier;
+    private final @NotNull String sourceServerName;
+    private boolean isComplete = false;
+
+    /**
+     * Used to create a map change event.
+     *
+     * @param mapIdentifier    The identifier of the map that was changed.
+     * @param sourceServerName The name of the server that changed the map.
+     */
+    public MapChangeEvent(@NotNull String mapIdentifier, @NotNull String sourceServerName) {
+        this.mapIdentifier = mapIdentifier;
+        this.sourceServerName = sourceServerName;
+    }
+
+    /**
+     * Used to get the identifier of the map that was changed.
+     *
+     * @return The map identifier.
+     */
+    public @NotNull String getMapIdentifier() {
+        return this.mapIdentifier;
+    }
+
+    /**
+     * Used to get the name of the server that changed the map.
+     * <p>
+     * This server has already updated its map catalog.
+     *
+     * @return The name of the server.
+     */
+    public @NotNull String getSourceServerName() {
+        return this.sourceServerName;
+    }
+
+    @Override
+    public @NotNull InternalEvent complete() {
+        this.isComplete = true;
+        return this;
+    }
+
+    @Override
+    public @NotNull InternalEvent setComplete(boolean isComplete) {
+        this.isComplete = isComplete;
+        return this;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+}
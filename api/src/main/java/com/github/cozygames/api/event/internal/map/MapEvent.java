@@ -39,6 +39,34 @@ public abstract class MapEvent extends InternalEvent {
      */
     public abstract @NotNull String getMapIdentifier();
 
+    /**
+     * Used to get the name of the server that contains the map.
+     * <p>
+     * Map identifiers start with the server name,
+     * so this doesn't need the map instance.
+     *
+     * @return The server name.
+     */
+    public @NotNull String getServerName() {
+        final String mapIdentifier = this.getMapIdentifier();
+        final int index = mapIdentifier.indexOf(':');
+        return index < 0 ? mapIdentifier : mapIdentifier.substring(0, index);
+    }
+
+    /**
+     * Used to get the name of the server this event is for.
+     * <p>
+     * Unless set, this will be the server
+     * that contains the map.
+     *
+     * @return The target server name.
+     */
+    @Override
+    public @NotNull String getTargetServerName() {
+        final String targetServerName = super.getTargetServerName();
+        return targetServerName == null ? this.getServerName() : targetServerName;
+    }
+
     /**
      * Used to execute the method of the local {@link Map}.
      * <p>
@@ -19,5 +19,8 @@
 /**
  * Contains kerb events that are called in the corresponding
  * {@link com.github.cozygames.api.map.GlobalMap} methods.
+ * <p>
+ * Also contains the {@link com.github.cozygames.api.event.internal.map.MapChangeEvent}
+ * used to keep each connection's map catalog up to date.
  */
 package com.github.cozygames.api.event.internal.map;
\ No newline at end of file
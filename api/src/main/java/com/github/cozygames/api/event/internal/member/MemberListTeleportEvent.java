@@ -0,0 +1,86 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.event.internal.member;
+
+import com.github.cozygames.api.event.internal.InternalEvent;
+import com.github.cozygames.api.location.ServerLocation;
+import com.github.cozygames.api.member.Member;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents a member list teleport event.
+ * <p>
+ * Like the {@link MemberTeleportEvent} but used to teleport
+ * many members to the same location with a single event.
+ * This is used when a whole group is sent to an arena.
+ */
+public class MemberListTeleportEvent extends InternalEvent {
+
+    private final @NotNull List<Member> memberList;
+    private final @NotNull ServerLocation location;
+    private boolean isComplete = false;
+
+    /**
+     * Used to create a member list teleport event.
+     *
+     * @param memberList The list of members to teleport.
+     * @param location   The location to teleport to.
+     */
+    public MemberListTeleportEvent(@NotNull List<Member> memberList, @NotNull ServerLocation location) {
+        this.memberList = List.copyOf(memberList);
+        this.location = location;
+    }
+
+    /**
+     * Used to get the list of members to teleport.
+     *
+     * @return The list of members.
+     */
+    public @NotNull List<Member> getMemberList() {
+        return this.memberList;
+    }
+
+    /**
+     * Used to get the instance of the server location.
+     *
+     * @return The instance of the location.
+     */
+    public @NotNull ServerLocation getLocation() {
+        return this.location;
+    }
+
+    @Override
+    public @NotNull InternalEvent complete() {
+        this.isComplete = true;
+        return this;
+    }
+
+    @Override
+    public @NotNull InternalEvent setComplete(boolean isComplete) {
+        this.isComplete = isComplete;
+        return this;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+}
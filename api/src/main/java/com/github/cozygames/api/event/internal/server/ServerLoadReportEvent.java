@@ -0,0 +1,187 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.event.internal.server;
+
+import com.github.cozygames.api.event.internal.InternalEvent;
+import com.github.cozygames.api.map.MapManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the server load report event.
+ * <p>
+ * Each api connection calls this event periodically to tell
+ * the other connections how loaded its server is. The reports
+ * are stored in the {@link MapManager} and used to choose which
+ * server a new session should be started on.
+ * <p>
+ * Like the {@link com.github.cozygames.api.event.internal.map.MapChangeEvent}
+ * this event is handled by every api connection.
+ */
+public class ServerLoadReportEvent extends InternalEvent {
+
+    private final @NotNull String serverName;
+    private final @NotNull Map<String, Integer> sessionAmountMap;
+    private final int idleArenaAmount;
+    private final double ticksPerSecond;
+    private final long usedHeapBytes;
+    private final long maxHeapBytes;
+    private boolean isComplete = false;
+
+    /**
+     * Used to create a server load report event.
+     *
+     * @param serverName       The name of the server the report is for.
+     * @param sessionAmountMap The amount of active sessions for each map identifier.
+     * @param idleArenaAmount  The amount of built arenas waiting in arena pools.
+     * @param ticksPerSecond   The server's recent ticks per second.
+     * @param usedHeapBytes    The amount of heap memory used.
+     * @param maxHeapBytes     The maximum amount of heap memory.
+     */
+    public ServerLoadReportEvent(@NotNull String serverName,
+                                 @NotNull Map<String, Integer> sessionAmountMap,
+                                 int idleArenaAmount,
+                                 double ticksPerSecond,
+                                 long usedHeapBytes,
+                                 long maxHeapBytes) {
+
+        this.serverName = serverName;
+        this.sessionAmountMap = new HashMap<>(sessionAmountMap);
+        this.idleArenaAmount = idleArenaAmount;
+        this.ticksPerSecond = ticksPerSecond;
+        this.usedHeapBytes = usedHeapBytes;
+        this.maxHeapBytes = maxHeapBytes;
+    }
+
+    /**
+     * Used to get the name of the server this report is for.
+     *
+     * @return The server name.
+     */
+    public @NotNull String getServerName() {
+        return this.serverName;
+    }
+
+    /**
+     * Used to get the amount of active sessions
+     * for each map identifier on the server.
+     *
+     * @return The map of map identifiers to session amounts.
+     */
+    public @NotNull Map<String, Integer> getSessionAmountMap() {
+        return this.sessionAmountMap;
+    }
+
+    /**
+     * Used to get the amount of active sessions
+     * for a map on the server.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The amount of sessions.
+     */
+    public int getSessionAmount(@NotNull String mapIdentifier) {
+        return this.sessionAmountMap.getOrDefault(mapIdentifier, 0);
+    }
+
+    /**
+     * Used to get the total amount of active
+     * sessions on the server.
+     *
+     * @return The amount of sessions.
+     */
+    public int getSessionAmount() {
+        int sessionAmount = 0;
+        for (int amount : this.sessionAmountMap.values()) {
+            sessionAmount += amount;
+        }
+        return sessionAmount;
+    }
+
+    /**
+     * Used to get the amount of built arenas
+     * waiting in the server's arena pools.
+     *
+     * @return The amount of idle arenas.
+     */
+    public int getIdleArenaAmount() {
+        return this.idleArenaAmount;
+    }
+
+    /**
+     * Used to get the server's recent ticks per second.
+     *
+     * @return The ticks per second.
+     */
+    public double getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    /**
+     * Used to get the amount of heap memory used.
+     *
+     * @return The used heap in bytes.
+     */
+    public long getUsedHeapBytes() {
+        return this.usedHeapBytes;
+    }
+
+    /**
+     * Used to get the maximum amount of heap memory.
+     *
+     * @return The maximum heap in bytes.
+     */
+    public long getMaxHeapBytes() {
+        return this.maxHeapBytes;
+    }
+
+    /**
+     * Used to get a score that represents how
+     * loaded the server is.
+     * <p>
+     * This is the fraction of ticks the server is missing
+     * added to the fraction of heap memory it is using.
+     * An idle server will have a score close to 0.
+     *
+     * @return The load score.
+     */
+    public double getLoadScore() {
+        final double tickLoad = Math.max(0, 1 - this.ticksPerSecond / 20);
+        final double heapLoad = this.maxHeapBytes <= 0 ? 0 : (double) this.usedHeapBytes / this.maxHeapBytes;
+        return tickLoad + heapLoad;
+    }
+
+    @Override
+    public @NotNull InternalEvent complete() {
+        this.isComplete = true;
+        return this;
+    }
+
+    @Override
+    public @NotNull InternalEvent setComplete(boolean isComplete) {
+        this.isComplete = isComplete;
+        return this;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+}
@@ -219,6 +219,11 @@ public class Group implements ConfigurationConvertable<Group>, Savable<Group>, D
                 .getTable(GroupTable.class)
                 .insertGroup(this);
 
+        // Update the player group index.
+        CozyGamesProvider.get()
+                .getGroupManager()
+                .updatePlayerIndex(this);
+
         return this;
     }
 
@@ -231,6 +236,11 @@ public class Group implements ConfigurationConvertable<Group>, Savable<Group>, D
                 .getTable(GroupTable.class)
                 .removeGroup(this);
 
+        // Remove from the player group index.
+        CozyGamesProvider.get()
+                .getGroupManager()
+                .removeFromPlayerIndex(this);
+
         return this;
     }
 }
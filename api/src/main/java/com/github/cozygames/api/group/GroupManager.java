@@ -20,13 +20,18 @@ package com.github.cozygames.api.group;
 
 import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.database.record.GroupRecord;
+import com.github.cozygames.api.database.table.GroupMemberTable;
 import com.github.cozygames.api.database.table.GroupTable;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents the group manager.
@@ -36,10 +41,18 @@ import java.util.UUID;
  * Saving and deleting a group can be done by calling
  * the {@link Group#save()} and {@link Group#delete()}
  * methods.
+ * <p>
+ * Contains an index of player uuids to group identifiers,
+ * so a player's group can be found without searching
+ * every group. The indexed members of each group are also
+ * kept, so a group's entries can be removed without
+ * searching every player.
  */
 public class GroupManager {
 
     private final @NotNull CozyGames api;
+    private final @NotNull ConcurrentHashMap<UUID, UUID> playerGroupIndex;
+    private final @NotNull ConcurrentHashMap<UUID, Set<UUID>> groupMemberIndex;
 
     /**
      * Used to create a new group manager.
@@ -48,6 +61,8 @@ public class GroupManager {
      */
     public GroupManager(@NotNull CozyGames api) {
         this.api = api;
+        this.playerGroupIndex = new ConcurrentHashMap<>();
+        this.groupMemberIndex = new ConcurrentHashMap<>();
     }
 
     /**
@@ -95,14 +110,164 @@ public class GroupManager {
 
     /**
      * Used to get a group instance that contains a certain player.
+     * <p>
+     * The group identifier is first looked up in the
+     * player group index. If the player is not indexed,
+     * or the index is out of date, it will be looked up
+     * in the {@link GroupMemberTable}.
      *
      * @param playerUuid The player's uuid.
      * @return The optional group.
      */
     public @NotNull Optional<Group> getGroupFromPlayer(@NotNull UUID playerUuid) {
-        return this.api.getDatabase()
-                .getTable(GroupTable.class)
-                .getGroupRecordFromPlayer(playerUuid)
-                .map(GroupRecord::convert);
+
+        // Check if the player is indexed.
+        final UUID indexedIdentifier = this.playerGroupIndex.get(playerUuid);
+        if (indexedIdentifier != null) {
+            final Group group = this.getGroup(indexedIdentifier).orElse(null);
+            if (group != null && group.getMemberUuids().contains(playerUuid)) return Optional.of(group);
+
+            // The group may have been changed by another api connection.
+            // Remove the index and look up the group in the database.
+            this.unindexPlayer(playerUuid, indexedIdentifier);
+        }
+
+        // Get the group identifier from the database.
+        final UUID groupIdentifier = this.api.getDatabase()
+                .getTable(GroupMemberTable.class)
+                .getGroupIdentifier(playerUuid)
+                .orElse(null);
+
+        if (groupIdentifier == null) return Optional.empty();
+
+        // Check if the group still contains the player.
+        final Group group = this.getGroup(groupIdentifier).orElse(null);
+        if (group == null || !group.getMemberUuids().contains(playerUuid)) return Optional.empty();
+
+        this.indexPlayer(playerUuid, groupIdentifier);
+        return Optional.of(group);
+    }
+
+    /**
+     * Used to update the player group index after
+     * a group was saved.
+     *
+     * @param group The instance of the group.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull GroupManager updatePlayerIndex(@NotNull Group group) {
+        final List<UUID> memberUuids = group.getMemberUuids();
+        final Set<UUID> indexedUuids = this.groupMemberIndex.get(group.getIdentifier());
+
+        // Remove players that are no longer in the group.
+        if (indexedUuids != null) {
+            for (UUID playerUuid : Set.copyOf(indexedUuids)) {
+                if (memberUuids.contains(playerUuid)) continue;
+                this.unindexPlayer(playerUuid, group.getIdentifier());
+            }
+        }
+
+        // Add the group's members.
+        for (UUID playerUuid : memberUuids) {
+            this.indexPlayer(playerUuid, group.getIdentifier());
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to remove a group from the player group index
+     * after the group was deleted.
+     *
+     * @param group The instance of the group.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull GroupManager removeFromPlayerIndex(@NotNull Group group) {
+        final Set<UUID> indexedUuids = this.groupMemberIndex.remove(group.getIdentifier());
+        if (indexedUuids == null) return this;
+
+        // Remove the group's indexed players.
+        for (UUID playerUuid : indexedUuids) {
+            this.playerGroupIndex.remove(playerUuid, group.getIdentifier());
+        }
+
+        return this;
+    }
+
+    /**
+     * Used to add a player to the player group index.
+     * <p>
+     * If the player was indexed to another group,
+     * they will be removed from that group's members.
+     *
+     * @param playerUuid      The player's uuid.
+     * @param groupIdentifier The group's identifier.
+     */
+    private void indexPlayer(@NotNull UUID playerUuid, @NotNull UUID groupIdentifier) {
+        final UUID previousIdentifier = this.playerGroupIndex.put(playerUuid, groupIdentifier);
+
+        // Check if the player was indexed to another group.
+        if (previousIdentifier != null && !previousIdentifier.equals(groupIdentifier)) {
+            this.removeIndexedMember(previousIdentifier, playerUuid);
+        }
+
+        this.groupMemberIndex.compute(groupIdentifier, (identifier, memberUuids) -> {
+            final Set<UUID> uuids = memberUuids == null ? ConcurrentHashMap.newKeySet() : memberUuids;
+            uuids.add(playerUuid);
+            return uuids;
+        });
+    }
+
+    /**
+     * Used to remove a player from the player group index
+     * if they are still indexed to the group.
+     *
+     * @param playerUuid      The player's uuid.
+     * @param groupIdentifier The group's identifier.
+     */
+    private void unindexPlayer(@NotNull UUID playerUuid, @NotNull UUID groupIdentifier) {
+        this.playerGroupIndex.remove(playerUuid, groupIdentifier);
+        this.removeIndexedMember(groupIdentifier, playerUuid);
+    }
+
+    private void removeIndexedMember(@NotNull UUID groupIdentifier, @NotNull UUID playerUuid) {
+        this.groupMemberIndex.computeIfPresent(groupIdentifier, (identifier, memberUuids) -> {
+            memberUuids.remove(playerUuid);
+            return memberUuids.isEmpty() ? null : memberUuids;
+        });
+    }
+
+    /**
+     * Used to get all the groups asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @return The future list of groups.
+     */
+    public @NotNull CompletableFuture<List<Group>> getGroupListAsync() {
+        return this.api.supplyDatabaseAsync(this::getGroupList);
+    }
+
+    /**
+     * Used to get a group based on the group identifier asynchronously
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param identifier The group identifier to look for.
+     * @return The future optional group instance.
+     */
+    public @NotNull CompletableFuture<Optional<Group>> getGroupAsync(@NotNull UUID identifier) {
+        return this.api.supplyDatabaseAsync(() -> this.getGroup(identifier));
+    }
+
+    /**
+     * Used to get a group instance that contains a certain player
+     * asynchronously using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param playerUuid The player's uuid.
+     * @return The future optional group.
+     */
+    public @NotNull CompletableFuture<Optional<Group>> getGroupFromPlayerAsync(@NotNull UUID playerUuid) {
+        return this.api.supplyDatabaseAsync(() -> this.getGroupFromPlayer(playerUuid));
     }
 }
@@ -22,16 +22,24 @@ import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.CozyGamesProvider;
 import com.github.cozygames.api.arena.ArenaManager;
 import com.github.cozygames.api.database.table.ArenaTable;
+import com.github.cozygames.api.database.table.GroupMemberTable;
 import com.github.cozygames.api.database.table.GroupTable;
 import com.github.cozygames.api.database.table.MapTable;
 import com.github.cozygames.api.database.table.MemberTable;
+import com.github.cozygames.api.event.internal.InternalEvent;
+import com.github.cozygames.api.event.internal.arena.ArenaEvent;
+import com.github.cozygames.api.event.internal.map.MapEvent;
+import com.github.cozygames.api.event.internal.server.ServerLoadReportEvent;
 import com.github.cozygames.api.group.GroupManager;
 import com.github.cozygames.api.logger.Logger;
+import com.github.cozygames.api.map.Map;
 import com.github.cozygames.api.map.MapManager;
 import com.github.cozygames.api.member.Member;
 import com.github.cozygames.api.member.MemberNotFoundException;
 import com.github.cozygames.api.plugin.CozyGamesAPIPlugin;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
+import com.github.cozygames.api.queue.QueueManager;
+import com.github.cozygames.api.session.Session;
 import com.github.kerbity.kerb.client.KerbClient;
 import com.github.kerbity.kerb.packet.event.Event;
 import com.github.kerbity.kerb.packet.event.Priority;
@@ -44,10 +52,21 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.lang.reflect.Method;
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a simple implementation of the cozy games api.
@@ -68,15 +87,23 @@ import java.util.UUID;
 @ApiStatus.Internal
 public class CozyGamesImpl implements CozyGames {
 
+    private static final long DATABASE_SHUTDOWN_SECONDS = 10;
+
     private final @NotNull CozyGamesAPIPlugin plugin;
     private final @NotNull Logger logger;
 
     private final @NotNull Configuration connectionConfig;
     private final @NotNull Database database;
+    private final @NotNull ThreadPoolExecutor databaseExecutor;
+    private final @NotNull ExecutorService teleportExecutor;
     private final @NotNull KerbClient kerb;
+    private final @NotNull CozyGamesInternalListener internalListener;
+    private final boolean handleLocalEvents;
     private final @NotNull MapManager mapManager;
     private final @NotNull ArenaManager arenaManager;
     private final @NotNull GroupManager groupManager;
+    private final @NotNull QueueManager queueManager;
+    private final @NotNull ScheduledExecutorService loadReportExecutor;
 
     private final @NotNull List<CozyGamesPlugin<?, ?, ?, ?>> localPluginList;
 
@@ -112,10 +139,31 @@ public class CozyGamesImpl implements CozyGames {
         this.logger.debug("Creating database tables.");
         this.database.createTable(new ArenaTable());
         this.database.createTable(new GroupTable());
+        this.database.createTable(new GroupMemberTable());
         this.database.createTable(new MapTable());
         this.database.createTable(new MemberTable());
+
+        // Update arenas saved before the arena filter columns existed.
+        final int migrateAmount = this.database.getTable(ArenaTable.class).migrate();
+        if (migrateAmount > 0) this.logger.log("Updated &f" + migrateAmount + "&7 arenas in the arena table.");
+
+        // Add the members of groups saved before the group member table existed.
+        final int backfillAmount = this.database.getTable(GroupMemberTable.class)
+                .backfill(this.database.getTable(GroupTable.class));
+
+        if (backfillAmount > 0) this.logger.log("Added the members of &f" + backfillAmount + "&7 groups to the group member table.");
         this.logger.log("Completed setting up database.");
 
+        // Create the database executor.
+        this.logger.debug("Setting up database executor.");
+        this.databaseExecutor = this.createDatabaseExecutor();
+        this.logger.log("Completed setting up database executor.");
+
+        // Create the teleport executor.
+        this.logger.debug("Setting up teleport executor.");
+        this.teleportExecutor = this.createTeleportExecutor();
+        this.logger.log("Completed setting up teleport executor.");
+
         // Create kerb connection.
         this.logger.debug("Setting up kerb client.");
         this.kerb = new KerbClient(
@@ -135,10 +183,6 @@ public class CozyGamesImpl implements CozyGames {
         // If unable to check and attempt to reconnect.
         this.logger.debug("Connecting to kerb server.");
         if (!this.kerb.connect()) this.kerb.checkAndAttemptToReconnect();
-
-        // Register cozy games internal listener.
-        this.logger.debug("Registering internal kerb listeners.");
-        this.kerb.registerListener(Priority.HIGH, new CozyGamesInternalListener(this));
         this.logger.log("Completed setting up kerb.");
 
         // Create the map manager.
@@ -153,8 +197,26 @@ public class CozyGamesImpl implements CozyGames {
         this.groupManager = new GroupManager(this);
         this.logger.debug("Completed setting up group manager.");
 
+        // Create the queue manager.
+        this.queueManager = new QueueManager(this);
+        this.logger.debug("Completed setting up queue manager.");
+
+        // Register cozy games internal listener.
+        // This is done after the managers are created,
+        // as events may be received straight away.
+        this.logger.debug("Registering internal kerb listeners.");
+        this.internalListener = new CozyGamesInternalListener(this);
+        this.handleLocalEvents = this.connectionConfig.getBoolean("kerb.handle_local_events", true);
+        this.kerb.registerListener(Priority.HIGH, this.internalListener);
+        this.logger.debug("Completed registering internal kerb listeners.");
+
         // Initialize the local plugin list.
-        this.localPluginList = new ArrayList<>();
+        // This is read by the load report thread.
+        this.localPluginList = new CopyOnWriteArrayList<>();
+
+        // Start publishing server load reports.
+        this.loadReportExecutor = this.createLoadReportExecutor();
+        this.logger.debug("Completed setting up load reports.");
 
         // Register this instance in the singleton provider.
         CozyGamesProvider.register(this);
@@ -168,6 +230,119 @@ public class CozyGamesImpl implements CozyGames {
         this.logHeader();
     }
 
+    private @NotNull ScheduledExecutorService createLoadReportExecutor() {
+        final int intervalSeconds = this.connectionConfig.getInteger("load_report.interval_seconds", 5);
+
+        // Reports are used until 3 reports have been missed.
+        this.mapManager.setServerLoadTimeoutMillis(Math.max(1, intervalSeconds) * 3000L);
+
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "CozyGames-Load-Report");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (intervalSeconds > 0) {
+            executor.scheduleAtFixedRate(this::publishLoadReport, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+        return executor;
+    }
+
+    /**
+     * Used to create a load report for this server
+     * and send it to the other api connections.
+     */
+    private void publishLoadReport() {
+        try {
+            final ServerLoadReportEvent report = this.createLoadReport();
+            this.mapManager.updateServerLoad(report);
+            this.callEvent(report);
+        } catch (Exception exception) {
+            this.logger.warn("Unable to publish the server load report. " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Used to create a load report from the
+     * local plugins and the platform.
+     *
+     * @return The load report.
+     */
+    private @NotNull ServerLoadReportEvent createLoadReport() {
+        final java.util.Map<String, Integer> sessionAmountMap = new HashMap<>();
+        int idleArenaAmount = 0;
+
+        for (CozyGamesPlugin<?, ?, ?, ?> plugin : this.localPluginList) {
+            for (Session<?, ?> session : plugin.getSessionManager().getSessionList()) {
+                sessionAmountMap.merge(Map.getIdentifier(session.getArenaIdentifier()), 1, Integer::sum);
+            }
+            idleArenaAmount += plugin.getArenaPool().getIdleAmount();
+        }
+
+        final Runtime runtime = Runtime.getRuntime();
+        return new ServerLoadReportEvent(
+                this.getServerName(),
+                sessionAmountMap,
+                idleArenaAmount,
+                this.plugin.getTicksPerSecond(),
+                runtime.totalMemory() - runtime.freeMemory(),
+                runtime.maxMemory()
+        );
+    }
+
+    private @NotNull ExecutorService createTeleportExecutor() {
+
+        // Check if virtual threads are available.
+        // They are only available on java 21 or above.
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            this.logger.debug("Using virtual threads for teleports.");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+        }
+
+        final int threads = Math.max(1, this.connectionConfig.getInteger("teleport_executor.threads", 16));
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        // Create the thread pool.
+        // Idle threads are stopped after a minute.
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "CozyGames-Teleport-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private @NotNull ThreadPoolExecutor createDatabaseExecutor() {
+        final int threads = Math.max(1, this.connectionConfig.getInteger("database_executor.threads", 4));
+        final int queueSize = Math.max(1, this.connectionConfig.getInteger("database_executor.queue_size", 1000));
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        // Create the thread pool.
+        // When the queue is full the request will be rejected,
+        // so database requests are never run on the caller's thread.
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "CozyGames-Database-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
     private void logHeader() {
         this.logger.log("&7");
         this.logger.log("&a    ____                ____");
@@ -249,6 +424,26 @@ public class CozyGamesImpl implements CozyGames {
         return this;
     }
 
+    @Override
+    public @NotNull CozyGames shutdown() {
+        this.loadReportExecutor.shutdownNow();
+        this.teleportExecutor.shutdownNow();
+
+        // Give queued database requests time to complete.
+        this.databaseExecutor.shutdown();
+        try {
+            if (!this.databaseExecutor.awaitTermination(DATABASE_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                this.logger.warn("Database requests took longer than &f" + DATABASE_SHUTDOWN_SECONDS + "&7 seconds to complete and were cancelled.");
+                this.databaseExecutor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            this.databaseExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        return this;
+    }
+
     @Override
     public @NotNull Configuration getConnectionConfig() {
         return this.connectionConfig;
@@ -259,15 +454,69 @@ public class CozyGamesImpl implements CozyGames {
         return this.database;
     }
 
+    @Override
+    public @NotNull Executor getDatabaseExecutor() {
+        return this.databaseExecutor;
+    }
+
+    @Override
+    public @NotNull Executor getMainThreadExecutor() {
+        return this.plugin.getMainThreadExecutor();
+    }
+
+    @Override
+    public @NotNull Executor getTeleportExecutor() {
+        return this.teleportExecutor;
+    }
+
     @Override
     public @NotNull KerbClient getKerbClient() {
         return this.kerb;
     }
 
+    @SuppressWarnings("unchecked")
     public @NotNull <E extends Event> CompletableResultSet<E> callEvent(E event) {
+
+        // Check if the event is for this server.
+        // If so, handle it here instead of sending it through kerb.
+        if (this.isLocalEvent(event)) {
+            final InternalEvent internalEvent = (InternalEvent) event;
+            final CompletableResultSet<E> result = new CompletableResultSet<>(1);
+
+            // Failures are returned as an incomplete event,
+            // the same as when a server can't handle the event.
+            try {
+                result.addResult((E) this.internalListener.onEvent(internalEvent));
+            } catch (Exception exception) {
+                this.logger.warn("Unable to handle the local event &f" + event.getClass().getSimpleName() + "&7. " + exception.getMessage());
+                result.addResult((E) internalEvent.setComplete(false));
+            }
+            return result;
+        }
+
         return this.kerb.callEvent(event);
     }
 
+    /**
+     * Used to check if an event only needs to be
+     * handled by this api connection.
+     * <p>
+     * Arena and map events are only handled by the
+     * internal listener of their target server.
+     * <p>
+     * Events handled locally are not sent to any other kerb
+     * listeners. If other listeners need these events, this can
+     * be disabled with {@code kerb.handle_local_events}.
+     *
+     * @param event The instance of the event.
+     * @return True if the event is for this server.
+     */
+    private boolean isLocalEvent(@NotNull Event event) {
+        if (!this.handleLocalEvents) return false;
+        if (!(event instanceof ArenaEvent) && !(event instanceof MapEvent)) return false;
+        return this.getServerName().equals(((InternalEvent) event).getTargetServerName());
+    }
+
     @Override
     public @NotNull MapManager getMapManager() {
         return this.mapManager;
@@ -283,6 +532,11 @@ public class CozyGamesImpl implements CozyGames {
         return this.groupManager;
     }
 
+    @Override
+    public @NotNull QueueManager getQueueManager() {
+        return this.queueManager;
+    }
+
     @Override
     public @NotNull Member getMember(@NotNull UUID playerUuid) {
 
@@ -22,7 +22,9 @@ import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.arena.Arena;
 import com.github.cozygames.api.event.internal.InternalEvent;
 import com.github.cozygames.api.event.internal.arena.ArenaEvent;
+import com.github.cozygames.api.event.internal.map.MapChangeEvent;
 import com.github.cozygames.api.event.internal.map.MapEvent;
+import com.github.cozygames.api.event.internal.server.ServerLoadReportEvent;
 import com.github.cozygames.api.map.Map;
 import com.github.kerbity.kerb.client.listener.EventListener;
 import com.github.kerbity.kerb.packet.event.Event;
@@ -48,8 +50,14 @@ public class CozyGamesInternalListener implements EventListener<InternalEvent> {
 
     @Override
     public @Nullable Event onEvent(InternalEvent event) {
+
+        // Check if the event is for another server.
+        if (!event.isTargetServer(this.api.getServerName())) return null;
+
         if (event instanceof MapEvent mapEvent) return this.onMapEvent(mapEvent);
         if (event instanceof ArenaEvent arenaEvent) return this.onArenaEvent(arenaEvent);
+        if (event instanceof MapChangeEvent mapChangeEvent) return this.onMapChangeEvent(mapChangeEvent);
+        if (event instanceof ServerLoadReportEvent reportEvent) return this.onServerLoadReportEvent(reportEvent);
         return null;
     }
 
@@ -86,4 +94,25 @@ public class CozyGamesInternalListener implements EventListener<InternalEvent> {
         arenaEvent.complete();
         return arenaEvent;
     }
+
+    private @Nullable MapChangeEvent onMapChangeEvent(@NotNull MapChangeEvent mapChangeEvent) {
+
+        // Check if this connection made the change.
+        // The map catalog will have already been updated.
+        if (mapChangeEvent.getSourceServerName().equals(this.api.getServerName())) return null;
+
+        // Reload the map from the database.
+        this.api.getMapManager().reloadMap(mapChangeEvent.getMapIdentifier());
+        return null;
+    }
+
+    private @Nullable ServerLoadReportEvent onServerLoadReportEvent(@NotNull ServerLoadReportEvent reportEvent) {
+
+        // Check if this connection sent the report.
+        // It will have already been stored.
+        if (reportEvent.getServerName().equals(this.api.getServerName())) return null;
+
+        this.api.getMapManager().updateServerLoad(reportEvent);
+        return null;
+    }
 }
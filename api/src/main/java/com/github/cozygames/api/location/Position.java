@@ -32,10 +32,6 @@ import java.util.LinkedHashMap;
  */
 public class Position extends Vector implements ConfigurationConvertable<Position>, Replicable<Position> {
 
-    private double x;
-    private double y;
-    private double z;
-
     private float yaw;
     private float pitch;
 
@@ -82,17 +78,14 @@ public class Position extends Vector implements ConfigurationConvertable<Positio
 
     /**
      * Used to create a clone of a position.
-     * <p>
-     * This uses the {@link Position#duplicate()} method.
      *
      * @param position The instance of the position to clone.
      */
     public Position(@NotNull Position position) {
-        super(position.duplicate().x, position.duplicate().y, position.duplicate().z);
+        super(position.getX(), position.getY(), position.getZ());
 
-        Position clone = position.duplicate();
-        this.yaw = clone.yaw;
-        this.pitch = clone.pitch;
+        this.yaw = position.yaw;
+        this.pitch = position.pitch;
     }
 
     /**
@@ -137,7 +130,7 @@ public class Position extends Vector implements ConfigurationConvertable<Positio
 
     @Override
     public String toString() {
-        return "{Position: {x: " + this.x + ", y: " + this.y + ", z: " + this.z + ", yaw: " + this.yaw + ", pitch: " + this.pitch + "}";
+        return "{Position: {x: " + this.getX() + ", y: " + this.getY() + ", z: " + this.getZ() + ", yaw: " + this.yaw + ", pitch: " + this.pitch + "}";
     }
 
     public float getYaw() {
@@ -158,6 +151,24 @@ public class Position extends Vector implements ConfigurationConvertable<Positio
         return this;
     }
 
+    /**
+     * Used to get a new position that is moved by a vector.
+     * <p>
+     * The yaw and pitch will stay the same.
+     *
+     * @param vector The vector to move the position by.
+     * @return The new position.
+     */
+    public @NotNull Position offset(@NotNull Vector vector) {
+        return new Position(
+                this.getX() + vector.getX(),
+                this.getY() + vector.getY(),
+                this.getZ() + vector.getZ(),
+                this.yaw,
+                this.pitch
+        );
+    }
+
     /**
      * Used to get the position as a location.
      * <p>
@@ -176,9 +187,9 @@ public class Position extends Vector implements ConfigurationConvertable<Positio
     public @NotNull ConfigurationSection convert() {
         ConfigurationSection section = new MemoryConfigurationSection(new LinkedHashMap<>());
 
-        section.set("x", this.x);
-        section.set("y", this.y);
-        section.set("z", this.z);
+        section.set("x", this.getX());
+        section.set("y", this.getY());
+        section.set("z", this.getZ());
 
         section.set("yaw", this.yaw);
         section.set("pitch", this.pitch);
@@ -189,9 +200,9 @@ public class Position extends Vector implements ConfigurationConvertable<Positio
     @Override
     public @NotNull Position convert(@NotNull ConfigurationSection section) {
 
-        this.x = section.getDouble("x");
-        this.y = section.getDouble("y");
-        this.z = section.getDouble("z");
+        this.setX(section.getDouble("x"));
+        this.setY(section.getDouble("y"));
+        this.setZ(section.getDouble("z"));
 
         this.yaw = Float.parseFloat(Double.toString(section.getDouble("yaw")));
         this.pitch = Float.parseFloat(Double.toString(section.getDouble("pitch")));
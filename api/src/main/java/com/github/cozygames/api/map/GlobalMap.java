@@ -24,6 +24,9 @@ import com.github.cozygames.api.arena.Arena;
 import com.github.cozygames.api.arena.GlobalArena;
 import com.github.cozygames.api.event.internal.map.MapLocalDeleteEvent;
 import com.github.cozygames.api.event.internal.map.MapLocalSaveEvent;
+import com.github.cozygames.api.location.Position;
+import com.github.cozygames.api.member.MemberCapacity;
+import com.github.cozygames.api.schematic.Schematic;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -49,6 +52,29 @@ public class GlobalMap extends Map<GlobalMap> {
         super(name, serverName, gameIdentifier);
     }
 
+    /**
+     * Used to create a global map that is a copy
+     * of another map.
+     * <p>
+     * This is used to store local maps in the
+     * {@link MapManager} map catalog.
+     * <p>
+     * The schematic, capacity and spawn point are also copied,
+     * so the maps can be changed separately.
+     *
+     * @param map The instance of the map to copy.
+     */
+    public GlobalMap(@NotNull Map<?> map) {
+        super(map.getName(), map.getServerName(), map.getGameIdentifier());
+
+        this.setMaximumSessionAmount(map.getMaximumSessionAmount());
+        this.setPermission(map.getPermission().orElse(null));
+        this.setSchematic(map.getSchematic().map(schematic -> new Schematic().setIdentifier(schematic.getIdentifier().orElse(null))).orElse(null));
+        this.setCapacity(map.getCapacity().map(capacity -> MemberCapacity.fromWords(capacity.getWords())).orElse(null));
+        this.setItemMaterial(map.getItemMaterial().orElse(null));
+        this.setSpawnPoint(map.getSpawnPoint().map(Position::new).orElse(null));
+    }
+
     @Override
     public @NotNull CozyGames getApi() {
         return CozyGamesProvider.get();
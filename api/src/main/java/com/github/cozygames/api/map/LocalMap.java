@@ -59,10 +59,30 @@ public abstract class LocalMap<M extends Map<M>> extends Map<M> {
         return this.getPlugin().getApi();
     }
 
+    /**
+     * Used to create an arena for this map.
+     * <p>
+     * If the plugin's {@link com.github.cozygames.api.arena.ArenaPool}
+     * contains an idle arena for this map, that arena will be returned.
+     * Its world will already be created.
+     * <p>
+     * Otherwise, a new arena with a unique world name is created,
+     * or a new slot is allocated if the plugin uses an
+     * {@link com.github.cozygames.api.arena.ArenaGrid}.
+     *
+     * @return The instance of the arena.
+     */
     @Override
     public @NotNull Arena<?, M> createArena() {
-        final String worldName = "ToDo";
-        final String identifier = Arena.getIdentifier(this.getIdentifier(), worldName);
+
+        // Check if there is an idle arena in the pool.
+        final Arena<?, M> idleArena = this.getPlugin().getArenaPool()
+                .take(this.getIdentifier())
+                .orElse(null);
+
+        if (idleArena != null) return idleArena;
+
+        final String identifier = this.getPlugin().createArenaIdentifier(this.getIdentifier());
         return this.getPlugin().getArenaConfiguration().createEmpty(identifier);
     }
 
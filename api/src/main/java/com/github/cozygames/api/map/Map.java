@@ -129,6 +129,8 @@ public abstract class Map<M extends Map<M>> implements ConfigurationConvertable<
                 .getTable(MapTable.class)
                 .insertMap(this);
 
+        // Update the map catalog.
+        this.getApi().getMapManager().updateMapCatalog(this);
         return (M) this;
     }
 
@@ -145,6 +147,8 @@ public abstract class Map<M extends Map<M>> implements ConfigurationConvertable<
                 .getTable(MapTable.class)
                 .removeMap(this);
 
+        // Update the map catalog.
+        this.getApi().getMapManager().removeFromMapCatalog(this.getIdentifier());
         return (M) this;
     }
 
@@ -419,12 +423,9 @@ public abstract class Map<M extends Map<M>> implements ConfigurationConvertable<
     public @NotNull M save() {
 
         // Check if the map exists in the database.
-        if (this.getApi().getMapManager().getMap(this.getIdentifier()).isPresent()) {
-
-            // Save the map to the database.
-            this.getApi().getDatabase()
-                    .getTable(MapTable.class)
-                    .insertMap(this);
+        // The map catalog mirrors the database, so this is an in memory check.
+        if (this.getApi().getMapManager().containsMap(this.getIdentifier())) {
+            this.saveToDatabase();
         }
 
         // Save to the local configuration.
@@ -22,7 +22,9 @@ import com.github.cozygames.api.member.MemberCapacity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The map filter.
@@ -79,23 +81,45 @@ public class MapFilter {
      * @return The filtered list.
      */
     public <M extends Map<?>> @NotNull List<M> filterMaps(@NotNull List<M> mapList) {
-        return mapList.stream().filter(map -> {
-            if (this.mapIdentifierFilter != null && !map.getIdentifier().equalsIgnoreCase(this.mapIdentifierFilter)) {
-                return false;
-            }
-            if (this.mapNameFilter != null && !map.getName().equalsIgnoreCase(this.mapNameFilter)) {
-                return false;
-            }
-            if (this.serverNameFilter != null && !map.getServerName().equalsIgnoreCase(this.serverNameFilter)) {
-                return false;
-            }
-            if (this.gameIdentifierFilter != null && !map.getGameIdentifier().equalsIgnoreCase(this.gameIdentifierFilter)) {
-                return false;
-            }
-            if (this.maximumSessionAmountFilter != null && map.getMaximumSessionAmount() != this.maximumSessionAmountFilter) {
-                return false;
-            }
-            return this.memberCapacityFilter == null || (map.getCapacity().isPresent() && map.getCapacity().orElseThrow().contains(this.memberCapacityFilter));
-        }).toList();
+        return mapList.stream().filter(this::matches).toList();
+    }
+
+    /**
+     * Used to get the first map in a collection
+     * of maps that matches the filter.
+     * <p>
+     * This will stop checking maps once a match is found.
+     *
+     * @param mapCollection The collection of maps to check.
+     * @param <M>           The map type that is being filtered.
+     * @return The optional first map.
+     */
+    public <M extends Map<?>> @NotNull Optional<M> getFirstMap(@NotNull Collection<M> mapCollection) {
+        return mapCollection.stream().filter(this::matches).findFirst();
+    }
+
+    /**
+     * Used to check if a map matches the filter.
+     *
+     * @param map The instance of the map.
+     * @return True if the map matches.
+     */
+    public boolean matches(@NotNull Map<?> map) {
+        if (this.mapIdentifierFilter != null && !map.getIdentifier().equalsIgnoreCase(this.mapIdentifierFilter)) {
+            return false;
+        }
+        if (this.mapNameFilter != null && !map.getName().equalsIgnoreCase(this.mapNameFilter)) {
+            return false;
+        }
+        if (this.serverNameFilter != null && !map.getServerName().equalsIgnoreCase(this.serverNameFilter)) {
+            return false;
+        }
+        if (this.gameIdentifierFilter != null && !map.getGameIdentifier().equalsIgnoreCase(this.gameIdentifierFilter)) {
+            return false;
+        }
+        if (this.maximumSessionAmountFilter != null && map.getMaximumSessionAmount() != this.maximumSessionAmountFilter) {
+            return false;
+        }
+        return this.memberCapacityFilter == null || (map.getCapacity().isPresent() && map.getCapacity().orElseThrow().contains(this.memberCapacityFilter));
     }
 }
@@ -21,14 +21,23 @@ package com.github.cozygames.api.map;
 import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.database.record.MapRecord;
 import com.github.cozygames.api.database.table.MapTable;
+import com.github.cozygames.api.event.internal.map.MapChangeEvent;
+import com.github.cozygames.api.event.internal.server.ServerLoadReportEvent;
 import com.github.cozygames.api.logger.Logger;
 import com.github.cozygames.api.member.MemberCapacity;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents the map manager.
@@ -37,12 +46,31 @@ import java.util.Optional;
  * <p>
  * When a map is registered the map will be available for
  * players to play.
+ * <p>
+ * Global maps are read from an in memory map catalog.
+ * The catalog is loaded from the database when the manager
+ * is created and updated when a map is saved or deleted.
+ * Other api connections are told to reload the changed
+ * map using a {@link MapChangeEvent}.
  */
 public class MapManager {
 
     private final @NotNull CozyGames api;
     private final @NotNull Logger logger;
     private final @NotNull List<String> localRegisteredMapList;
+    private final @NotNull ConcurrentHashMap<String, GlobalMap> mapCatalog;
+    private final @NotNull AtomicLong catalogVersion;
+    private final @NotNull ConcurrentHashMap<String, ServerLoad> serverLoadMap;
+    private volatile long serverLoadTimeoutMillis;
+
+    /**
+     * Represents the latest load report from a server.
+     *
+     * @param report       The load report.
+     * @param receivedTime The time the report was received in milliseconds.
+     */
+    private record ServerLoad(@NotNull ServerLoadReportEvent report, long receivedTime) {
+    }
 
     /**
      * Used to create a new arena manager.
@@ -52,7 +80,13 @@ public class MapManager {
     public MapManager(@NotNull CozyGames api) {
         this.api = api;
         this.logger = api.getPlugin().getLogger().createExtension("&7[MapManager] &5");
-        this.localRegisteredMapList = new ArrayList<>();
+        this.localRegisteredMapList = new CopyOnWriteArrayList<>();
+        this.mapCatalog = new ConcurrentHashMap<>();
+        this.catalogVersion = new AtomicLong();
+        this.serverLoadMap = new ConcurrentHashMap<>();
+        this.serverLoadTimeoutMillis = 15000;
+
+        this.reloadMapCatalog();
     }
 
     /**
@@ -144,18 +178,125 @@ public class MapManager {
         return this;
     }
 
+    /**
+     * Used to reload every map in the map catalog
+     * from the database.
+     * <p>
+     * The catalog is kept up to date when maps are saved
+     * or deleted, so this is only needed if changes
+     * may have been missed.
+     *
+     * @return This instance.
+     */
+    public @NotNull MapManager reloadMapCatalog() {
+
+        // Load the maps from the database.
+        final java.util.Map<String, GlobalMap> loadedMaps = new HashMap<>();
+        for (MapRecord record : this.api.getDatabase().getTable(MapTable.class).getRecordList()) {
+            final GlobalMap map = record.convert();
+            loadedMaps.put(map.getIdentifier(), map);
+        }
+
+        // Replace the maps in the catalog.
+        this.mapCatalog.keySet().retainAll(loadedMaps.keySet());
+        this.mapCatalog.putAll(loadedMaps);
+        this.catalogVersion.incrementAndGet();
+
+        this.logger.debug("Loaded &f" + loadedMaps.size() + " &5maps into the map catalog.");
+        return this;
+    }
+
+    /**
+     * Used to reload a single map in the map catalog
+     * from the database.
+     * <p>
+     * If the map no longer exists in the database
+     * it will be removed from the catalog.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return This instance.
+     */
+    public @NotNull MapManager reloadMap(@NotNull String mapIdentifier) {
+
+        // Get the map from the database.
+        final GlobalMap map = this.api.getDatabase()
+                .getTable(MapTable.class)
+                .getMapRecord(mapIdentifier)
+                .map(MapRecord::convert)
+                .orElse(null);
+
+        // Check if the map was deleted.
+        if (map == null) {
+            this.mapCatalog.remove(mapIdentifier);
+            this.catalogVersion.incrementAndGet();
+            return this;
+        }
+
+        this.mapCatalog.put(mapIdentifier, map);
+        this.catalogVersion.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * Used to update a map in the map catalog after it
+     * was saved to the database.
+     * <p>
+     * Other api connections will be told to reload the map.
+     *
+     * @param map The instance of the map that was saved.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull MapManager updateMapCatalog(@NotNull Map<?> map) {
+        this.mapCatalog.put(map.getIdentifier(), new GlobalMap(map));
+        this.catalogVersion.incrementAndGet();
+        this.api.callEvent(new MapChangeEvent(map.getIdentifier(), this.api.getServerName()));
+        return this;
+    }
+
+    /**
+     * Used to remove a map from the map catalog after it
+     * was deleted from the database.
+     * <p>
+     * Other api connections will be told to reload the map.
+     *
+     * @param mapIdentifier The identifier of the map that was deleted.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull MapManager removeFromMapCatalog(@NotNull String mapIdentifier) {
+        this.mapCatalog.remove(mapIdentifier);
+        this.catalogVersion.incrementAndGet();
+        this.api.callEvent(new MapChangeEvent(mapIdentifier, this.api.getServerName()));
+        return this;
+    }
+
+    /**
+     * Used to get the version of the map catalog.
+     * <p>
+     * This increases every time the catalog changes,
+     * so it can be used to check if values calculated
+     * from the catalog are out of date.
+     *
+     * @return The catalog version.
+     */
+    public long getCatalogVersion() {
+        return this.catalogVersion.get();
+    }
+
     /**
      * Used to get the list of global maps.
+     * <p>
+     * This is read from the map catalog, so the
+     * database will not be queried.
+     * <p>
+     * The maps are copies, so changing them
+     * will not change the map catalog.
      *
      * @return The list of global maps.
      */
     public @NotNull List<GlobalMap> getMapList() {
-        return this.api.getDatabase()
-                .getTable(MapTable.class)
-                .getRecordList()
-                .stream()
-                .map(MapRecord::convert)
-                .toList();
+        return this.mapCatalog.values().stream().map(GlobalMap::new).toList();
     }
 
     /**
@@ -165,7 +306,9 @@ public class MapManager {
      * @return The list of global maps.
      */
     public @NotNull List<GlobalMap> getMapList(@NotNull MapFilter mapFilter) {
-        return mapFilter.filterMaps(this.getMapList());
+        return mapFilter.filterMaps(new ArrayList<>(this.mapCatalog.values())).stream()
+                .map(GlobalMap::new)
+                .toList();
     }
 
     /**
@@ -199,16 +342,52 @@ public class MapManager {
      * Used to get a map based on its identifier.
      * <p>
      * This is recommended over using a filter as it is
-     * less memory costing.
+     * a single lookup in the map catalog.
+     * <p>
+     * The returned instance is a copy of the map in the catalog.
+     * Changes should be saved using {@link Map#save()}.
      *
      * @param mapIdentifier The map's identifier.
      * @return The optional global map.
      */
     public @NotNull Optional<GlobalMap> getMap(@NotNull String mapIdentifier) {
-        return this.api.getDatabase()
-                .getTable(MapTable.class)
-                .getMapRecord(mapIdentifier)
-                .map(MapRecord::convert);
+        return Optional.ofNullable(this.mapCatalog.get(mapIdentifier)).map(GlobalMap::new);
+    }
+
+    /**
+     * Used to check if a map is in the map catalog.
+     * <p>
+     * This doesn't copy the map, so it should be used
+     * instead of {@link MapManager#getMap(String)} when
+     * only checking if the map exists.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return True if the map exists.
+     */
+    public boolean containsMap(@NotNull String mapIdentifier) {
+        return this.mapCatalog.containsKey(mapIdentifier);
+    }
+
+    /**
+     * Used to get a collection of maps based on their identifiers.
+     * <p>
+     * Each identifier is only looked up once, so this should be
+     * used when resolving the maps of many arenas.
+     *
+     * @param mapIdentifiers The map identifiers.
+     * @return The map of identifiers to the global maps that exist.
+     */
+    public @NotNull java.util.Map<String, GlobalMap> getMaps(@NotNull Collection<String> mapIdentifiers) {
+        final java.util.Map<String, GlobalMap> mapMap = new HashMap<>();
+
+        for (String mapIdentifier : mapIdentifiers) {
+            if (mapMap.containsKey(mapIdentifier)) continue;
+
+            final GlobalMap map = this.mapCatalog.get(mapIdentifier);
+            if (map != null) mapMap.put(mapIdentifier, new GlobalMap(map));
+        }
+
+        return mapMap;
     }
 
     /**
@@ -218,6 +397,203 @@ public class MapManager {
      * @return The first global map that matches the filter.
      */
     public @NotNull Optional<GlobalMap> getFirstMap(@NotNull MapFilter mapFilter) {
-        return Optional.ofNullable(mapFilter.filterMaps(this.getMapList()).get(0));
+        return mapFilter.getFirstMap(this.mapCatalog.values()).map(GlobalMap::new);
+    }
+
+    /**
+     * Used to store the latest load report from a server.
+     *
+     * @param report The load report.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull MapManager updateServerLoad(@NotNull ServerLoadReportEvent report) {
+        this.serverLoadMap.put(report.getServerName(), new ServerLoad(report, System.currentTimeMillis()));
+        return this;
+    }
+
+    /**
+     * Used to set how long a server load report is used for.
+     * <p>
+     * Servers without a recent report are assumed
+     * to be offline when selecting a map.
+     *
+     * @param serverLoadTimeoutMillis The timeout in milliseconds.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull MapManager setServerLoadTimeoutMillis(long serverLoadTimeoutMillis) {
+        this.serverLoadTimeoutMillis = serverLoadTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Used to get the latest load report from a server.
+     * <p>
+     * Reports older than the timeout are not returned.
+     *
+     * @param serverName The name of the server.
+     * @return The optional load report.
+     */
+    public @NotNull Optional<ServerLoadReportEvent> getServerLoad(@NotNull String serverName) {
+        final ServerLoad serverLoad = this.serverLoadMap.get(serverName);
+        if (serverLoad == null) return Optional.empty();
+
+        // Check if the report is too old.
+        if (System.currentTimeMillis() - serverLoad.receivedTime() > this.serverLoadTimeoutMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(serverLoad.report());
+    }
+
+    /**
+     * Used to get the latest load reports from
+     * every server that has reported recently.
+     *
+     * @return The list of load reports.
+     */
+    public @NotNull List<ServerLoadReportEvent> getServerLoadList() {
+        return this.serverLoadMap.keySet().stream()
+                .map(this::getServerLoad)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Used to choose the map on the least loaded
+     * server for a game.
+     *
+     * @param gameIdentifier The game identifier.
+     * @return The optional selected map.
+     */
+    public @NotNull Optional<GlobalMap> selectMap(@NotNull String gameIdentifier) {
+        return this.selectMap(new MapFilter().setGameIdentifierFilter(gameIdentifier));
+    }
+
+    /**
+     * Used to choose the map on the least loaded
+     * server from the maps that match a filter.
+     * <p>
+     * Maps are skipped if their server hasn't reported recently
+     * or is already running the map's maximum amount of sessions.
+     * The remaining maps are ordered by their server's
+     * {@link ServerLoadReportEvent#getLoadScore()}, then by the
+     * most idle arenas, then by the fewest sessions.
+     * <p>
+     * If no server has reported, the first matching map is returned.
+     *
+     * @param mapFilter The filter that should be used.
+     * @return The optional selected map.
+     */
+    public @NotNull Optional<GlobalMap> selectMap(@NotNull MapFilter mapFilter) {
+        if (this.serverLoadMap.isEmpty()) return this.getFirstMap(mapFilter);
+
+        GlobalMap selectedMap = null;
+        ServerLoadReportEvent selectedReport = null;
+
+        // The catalog is read directly, so only
+        // the selected map is copied.
+        for (GlobalMap map : this.mapCatalog.values()) {
+            if (!mapFilter.matches(map)) continue;
+
+            final ServerLoadReportEvent report = this.getServerLoad(map.getServerName()).orElse(null);
+            if (report == null) continue;
+
+            // Check if the server is running the maximum amount of sessions for the map.
+            // A maximum that isn't above zero is treated as unlimited.
+            final int maximumSessionAmount = map.getMaximumSessionAmount();
+            if (maximumSessionAmount > 0 && report.getSessionAmount(map.getIdentifier()) >= maximumSessionAmount) {
+                continue;
+            }
+
+            if (selectedReport == null || this.isLessLoaded(report, selectedReport)) {
+                selectedMap = map;
+                selectedReport = report;
+            }
+        }
+
+        return Optional.ofNullable(selectedMap).map(GlobalMap::new);
+    }
+
+    /**
+     * Used to check if a server is less loaded than another.
+     *
+     * @param report The first server's load report.
+     * @param other  The other server's load report.
+     * @return True if the first server is less loaded.
+     */
+    private boolean isLessLoaded(@NotNull ServerLoadReportEvent report, @NotNull ServerLoadReportEvent other) {
+        final int scoreCompare = Double.compare(report.getLoadScore(), other.getLoadScore());
+        if (scoreCompare != 0) return scoreCompare < 0;
+
+        if (report.getIdleArenaAmount() != other.getIdleArenaAmount()) {
+            return report.getIdleArenaAmount() > other.getIdleArenaAmount();
+        }
+        return report.getSessionAmount() < other.getSessionAmount();
+    }
+
+    /**
+     * Used to register a map asynchronously.
+     * <p>
+     * The map will be saved to the database using the
+     * {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param map The map instance.
+     * @return The future completed when the map is registered.
+     */
+    public @NotNull CompletableFuture<MapManager> registerMapAsync(@NotNull Map<?> map) {
+        return this.api.supplyDatabaseAsync(() -> this.registerMap(map));
+    }
+
+    /**
+     * Used to unregister a map asynchronously.
+     * <p>
+     * The map will be removed from the database using the
+     * {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The future completed when the map is unregistered.
+     */
+    public @NotNull CompletableFuture<MapManager> unregisterMapAsync(@NotNull String mapIdentifier) {
+        return this.api.supplyDatabaseAsync(() -> this.unregisterMap(mapIdentifier));
+    }
+
+    /**
+     * Used to get the list of global maps asynchronously.
+     *
+     * @return The future list of global maps.
+     */
+    public @NotNull CompletableFuture<List<GlobalMap>> getMapListAsync() {
+        return this.api.supplyDatabaseAsync(this::getMapList);
+    }
+
+    /**
+     * Used to get a filtered list of global maps asynchronously.
+     *
+     * @param mapFilter The filter that should be used.
+     * @return The future list of global maps.
+     */
+    public @NotNull CompletableFuture<List<GlobalMap>> getMapListAsync(@NotNull MapFilter mapFilter) {
+        return this.api.supplyDatabaseAsync(() -> this.getMapList(mapFilter));
+    }
+
+    /**
+     * Used to get a map based on its identifier asynchronously.
+     *
+     * @param mapIdentifier The map's identifier.
+     * @return The future optional global map.
+     */
+    public @NotNull CompletableFuture<Optional<GlobalMap>> getMapAsync(@NotNull String mapIdentifier) {
+        return this.api.supplyDatabaseAsync(() -> this.getMap(mapIdentifier));
+    }
+
+    /**
+     * Used to get the first global map using a filter asynchronously.
+     *
+     * @param mapFilter The filter that should be used.
+     * @return The future first global map that matches the filter.
+     */
+    public @NotNull CompletableFuture<Optional<GlobalMap>> getFirstMapAsync(@NotNull MapFilter mapFilter) {
+        return this.api.supplyDatabaseAsync(() -> this.getFirstMap(mapFilter));
     }
 }
@@ -21,7 +21,10 @@ package com.github.cozygames.api.member;
 import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.CozyGamesProvider;
 import com.github.cozygames.api.database.table.MemberTable;
+import com.github.cozygames.api.event.internal.InternalEvent;
+import com.github.cozygames.api.event.internal.member.MemberListTeleportEvent;
 import com.github.cozygames.api.event.internal.member.MemberTeleportEvent;
+import com.github.cozygames.api.group.Group;
 import com.github.cozygames.api.indicator.Savable;
 import com.github.cozygames.api.location.ServerLocation;
 import com.github.kerbity.kerb.result.CompletableResultSet;
@@ -29,6 +32,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a player on the server
@@ -110,20 +117,90 @@ public class Member implements Savable<Member> {
     /**
      * Used to teleport the member to a specific location
      * in a server in a world.
+     * <p>
+     * The event is called on the {@link CozyGames#getTeleportExecutor()}.
+     * If no reply is received within the reply timeout,
+     * the result will be false.
      *
      * @param location The location to teleport the player to.
      * @return The completable boolean. True if the member was teleported.
      */
     public @NotNull CompletableResultSet<Boolean> teleport(@NotNull ServerLocation location) {
-        CompletableResultSet<Boolean> result = new CompletableResultSet<>(1);
-
-        // Check if the event contains a true value, they have the permission.
-        new Thread(() -> result.addResult(
-                CozyGamesProvider.get()
-                        .callEvent(new MemberTeleportEvent(this, location))
-                        .waitForComplete()
-                        .containsSettable(true)
-        )).start();
+        return Member.callTeleportEvent(new MemberTeleportEvent(this, location));
+    }
+
+    /**
+     * Used to teleport every member of a group to
+     * the same location using a single event.
+     *
+     * @param group    The instance of the group.
+     * @param location The location to teleport the members to.
+     * @return The completable boolean. True if the members were teleported.
+     */
+    public static @NotNull CompletableResultSet<Boolean> teleportAll(@NotNull Group group, @NotNull ServerLocation location) {
+        return Member.callTeleportEvent(new MemberListTeleportEvent(group.getMembers(), location));
+    }
+
+    /**
+     * Used to call a teleport event on the teleport executor
+     * and wait for the reply, up to the reply timeout.
+     * <p>
+     * When the timeout passes, the thread waiting for the reply
+     * is interrupted, so it is returned to the executor. If the
+     * event is still waiting to be called, it will not be sent.
+     *
+     * @param event The teleport event.
+     * @return The completable boolean. True if the event contains a true value.
+     */
+    private static @NotNull CompletableResultSet<Boolean> callTeleportEvent(@NotNull InternalEvent event) {
+        final CozyGames api = CozyGamesProvider.get();
+        final CompletableResultSet<Boolean> result = new CompletableResultSet<>(1);
+        final long timeoutMillis = api.getConnectionConfig().getInteger("teleport_executor.reply_timeout_millis", 2000);
+
+        final CompletableFuture<Boolean> reply = new CompletableFuture<>();
+        final AtomicReference<Thread> worker = new AtomicReference<>();
+        reply.thenAccept(result::addResult);
+
+        try {
+            api.getTeleportExecutor().execute(() -> {
+
+                // Check if the reply has already timed out.
+                // This is checked while holding the lock, so the timeout
+                // will either see this thread or stop it from running.
+                synchronized (worker) {
+                    if (reply.isDone()) return;
+                    worker.set(Thread.currentThread());
+                }
+
+                // Check if the event contains a true value, they have the permission.
+                try {
+                    reply.complete(api.callEvent(event).waitForComplete().containsSettable(true));
+                } catch (Exception exception) {
+                    reply.complete(false);
+                } finally {
+
+                    // Stop the timeout from interrupting this thread,
+                    // then clear an interrupt that may have already happened.
+                    synchronized (worker) {
+                        worker.set(null);
+                    }
+                    Thread.interrupted();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            reply.complete(false);
+            return result;
+        }
+
+        // Stop waiting for the reply once the timeout has passed.
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!reply.complete(false)) return;
+
+            synchronized (worker) {
+                final Thread thread = worker.get();
+                if (thread != null) thread.interrupt();
+            }
+        });
 
         return result;
     }
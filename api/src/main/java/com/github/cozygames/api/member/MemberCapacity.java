@@ -20,9 +20,12 @@ package com.github.cozygames.api.member;
 
 import com.github.smuddgge.squishyconfiguration.indicator.ConfigurationConvertable;
 import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -30,17 +33,24 @@ import java.util.List;
  * <p>
  * If the amount of members is not listed in this class
  * they should not be able to play the map.
+ * <p>
+ * The possible capacities are stored as a bitset, where
+ * bit n is set if n members can play. This means checking a
+ * member amount is a single word lookup, and checking if one
+ * capacity contains another is one operation per 64 amounts.
  */
 public class MemberCapacity implements ConfigurationConvertable<MemberCapacity> {
 
-    private final @NotNull List<Integer> possibleCapacityList;
+    private static final int WORD_BITS = 64;
+
+    private long @NotNull [] words;
 
     /**
      * Used to create a new empty member
      * capacity class.
      */
     public MemberCapacity() {
-        this.possibleCapacityList = new ArrayList<>();
+        this.words = new long[1];
     }
 
     /**
@@ -51,16 +61,59 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      *                             will be cloned.
      */
     public MemberCapacity(@NotNull List<Integer> possibleCapacityList) {
-        this.possibleCapacityList = new ArrayList<>(possibleCapacityList);
+        this();
+        this.addPossibleCapacityList(possibleCapacityList);
+    }
+
+    /**
+     * Used to create a member capacity class
+     * from its bitset words.
+     *
+     * @param words The bitset words. This array will be cloned.
+     * @return The new member capacity.
+     */
+    public static @NotNull MemberCapacity fromWords(long @NotNull [] words) {
+        final MemberCapacity capacity = new MemberCapacity();
+        if (words.length > 0) capacity.words = words.clone();
+        return capacity;
+    }
+
+    /**
+     * Used to get the bitset words, where bit n
+     * is set if n members can play.
+     * <p>
+     * Trailing empty words are not included.
+     *
+     * @return A copy of the bitset words.
+     */
+    public long @NotNull [] getWords() {
+        int length = this.words.length;
+        while (length > 0 && this.words[length - 1] == 0) length--;
+        return Arrays.copyOf(this.words, length);
     }
 
     /**
      * Get the list of possible member capacity's the map can take.
+     * <p>
+     * The list is created from the bitset in ascending
+     * order, so changing it will not change this instance.
      *
      * @return The list of possible capacity's.
      */
     public @NotNull List<Integer> getPossibleCapacityList() {
-        return this.possibleCapacityList;
+        final List<Integer> possibleCapacityList = new ArrayList<>();
+
+        for (int index = 0; index < this.words.length; index++) {
+            long word = this.words[index];
+
+            // Add each set bit in the word.
+            while (word != 0) {
+                possibleCapacityList.add(index * WORD_BITS + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+
+        return possibleCapacityList;
     }
 
     /**
@@ -68,9 +121,19 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      *
      * @param capacity The capacity to add.
      * @return This instance.
+     * @throws IllegalArgumentException When the capacity is negative.
      */
     public @NotNull MemberCapacity addPossibleCapacity(int capacity) {
-        this.possibleCapacityList.add(capacity);
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Member capacity can not be negative: " + capacity);
+        }
+
+        final int index = capacity / WORD_BITS;
+        if (index >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, index + 1);
+        }
+
+        this.words[index] |= 1L << capacity;
         return this;
     }
 
@@ -82,7 +145,9 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      * @return This instance.
      */
     public @NotNull MemberCapacity addPossibleCapacityList(@NotNull List<Integer> possibleCapacityList) {
-        this.possibleCapacityList.addAll(possibleCapacityList);
+        for (int capacity : possibleCapacityList) {
+            this.addPossibleCapacity(capacity);
+        }
         return this;
     }
 
@@ -93,7 +158,10 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      * @return This instance.
      */
     public @NotNull MemberCapacity removePossibleCapacity(int capacity) {
-        this.possibleCapacityList.remove(capacity);
+        if (capacity < 0) return this;
+
+        final int index = capacity / WORD_BITS;
+        if (index < this.words.length) this.words[index] &= ~(1L << capacity);
         return this;
     }
 
@@ -104,7 +172,9 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      * @return This instance.
      */
     public @NotNull MemberCapacity removePossibleCapacityList(@NotNull List<Integer> possibleCapacityList) {
-        this.possibleCapacityList.removeAll(possibleCapacityList);
+        for (int capacity : possibleCapacityList) {
+            this.removePossibleCapacity(capacity);
+        }
         return this;
     }
 
@@ -115,7 +185,10 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      * @return True if the member amount is possible.
      */
     public boolean isPossible(int memberAmount) {
-        return this.possibleCapacityList.contains(memberAmount);
+        if (memberAmount < 0) return false;
+
+        final int index = memberAmount / WORD_BITS;
+        return index < this.words.length && (this.words[index] & (1L << memberAmount)) != 0;
     }
 
     /**
@@ -126,24 +199,59 @@ public class MemberCapacity implements ConfigurationConvertable<MemberCapacity>
      * @return True if this instance contains the member capacity.
      */
     public boolean contains(@NotNull MemberCapacity memberCapacity) {
-        for (int capacity : memberCapacity.getPossibleCapacityList()) {
-            if (!this.possibleCapacityList.contains(capacity)) return false;
+        for (int index = 0; index < memberCapacity.words.length; index++) {
+            final long word = index < this.words.length ? this.words[index] : 0;
+            if ((memberCapacity.words[index] & ~word) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Used to check if there are no possible capacity's.
+     *
+     * @return True if no member amount is possible.
+     */
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0) return false;
         }
         return true;
     }
 
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof MemberCapacity memberCapacity)) return false;
+        return Arrays.equals(this.getWords(), memberCapacity.getWords());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.getWords());
+    }
+
     @Override
     public String toString() {
-        return "(" + String.join(", ", this.possibleCapacityList.stream().map(String::valueOf).toList()) + ")";
+        return "(" + String.join(", ", this.getPossibleCapacityList().stream().map(String::valueOf).toList()) + ")";
     }
 
     @Override
     public @NotNull ConfigurationSection convert() {
-        return null;
+        ConfigurationSection section = new MemoryConfigurationSection(new LinkedHashMap<>());
+
+        section.set("possible", this.getPossibleCapacityList());
+
+        return section;
     }
 
     @Override
-    public @NotNull MemberCapacity convert(@NotNull ConfigurationSection configurationSection) {
-        return null;
+    public @NotNull MemberCapacity convert(@NotNull ConfigurationSection section) {
+        this.words = new long[1];
+
+        for (Object capacity : section.getListString("possible", new ArrayList<>())) {
+            this.addPossibleCapacity(Integer.parseInt(String.valueOf(capacity)));
+        }
+
+        return this;
     }
 }
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a instance of the cozy games api plugin.
@@ -97,4 +98,31 @@ public interface CozyGamesAPIPlugin {
      * @return True if they are online.
      */
     boolean isOnline(@NotNull UUID playerUuid);
+
+    /**
+     * Used to get the executor that runs tasks
+     * on the platform's main thread.
+     * <p>
+     * Tasks should be run on a later tick, so a task
+     * can schedule another task without blocking the tick.
+     * <p>
+     * If the platform doesn't have a main thread
+     * the tasks may be run on the calling thread.
+     *
+     * @return The main thread executor.
+     */
+    @NotNull
+    Executor getMainThreadExecutor();
+
+    /**
+     * Used to get the platform's recent ticks per second.
+     * <p>
+     * This is included in the server load reports.
+     * If the platform doesn't have ticks this will return 20.
+     *
+     * @return The ticks per second.
+     */
+    default double getTicksPerSecond() {
+        return 20;
+    }
 }
@@ -22,16 +22,21 @@ import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.arena.Arena;
 import com.github.cozygames.api.arena.ArenaConfiguration;
 import com.github.cozygames.api.arena.ArenaFactory;
+import com.github.cozygames.api.arena.ArenaGrid;
+import com.github.cozygames.api.arena.ArenaPool;
 import com.github.cozygames.api.map.Map;
 import com.github.cozygames.api.map.MapConfiguration;
 import com.github.cozygames.api.map.MapFactory;
 import com.github.cozygames.api.session.Session;
 import com.github.cozygames.api.session.SessionFactory;
 import com.github.cozygames.api.session.SessionManager;
+import com.github.cozygames.api.session.SessionScheduler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Optional;
 
 /**
  * Represents a foundation that can be used
@@ -52,6 +57,8 @@ public abstract class CozyGamesPlugin<
 
     private MapConfiguration<M> mapConfiguration;
     private ArenaConfiguration<A, M> arenaConfiguration;
+    private @Nullable ArenaGrid arenaGrid;
+    private ArenaPool<A, M> arenaPool;
     private SessionManager<S, A, M> sessionManager;
 
     /**
@@ -126,6 +133,76 @@ public abstract class CozyGamesPlugin<
      */
     public abstract @NotNull SessionFactory<S, A, M> getSessionFactory();
 
+    /**
+     * Used to get the amount of idle arenas that should
+     * be kept ready for each map.
+     * <p>
+     * Idle arenas have already created their world, so
+     * {@link Map#createArena()} can return them straight away.
+     * <p>
+     * This can be overridden to enable the {@link ArenaPool}.
+     *
+     * @return The amount of idle arenas for each map.
+     * Defaults to 0, which disables the pool.
+     */
+    public int getArenaPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Used to get the amount of blocks between each
+     * arena when arenas are placed in an {@link ArenaGrid}.
+     * <p>
+     * When enabled, the arenas of a map will share a single
+     * world instead of creating a world for each arena.
+     * This should be larger than the size of the largest map.
+     * <p>
+     * This can be overridden to enable the {@link ArenaGrid}.
+     *
+     * @return The spacing between arenas.
+     * Defaults to 0, which disables the grid.
+     */
+    public int getArenaGridSpacing() {
+        return 0;
+    }
+
+    /**
+     * Used to get the amount of arenas in each row
+     * of the {@link ArenaGrid}.
+     *
+     * @return The amount of arenas in each row.
+     */
+    public int getArenaGridColumns() {
+        return 16;
+    }
+
+    /**
+     * Used to get the maximum amount of milliseconds
+     * the session tick handlers can use each tick.
+     * <p>
+     * Sessions that don't run within the budget
+     * will run first on the next tick.
+     *
+     * @return The milliseconds per tick.
+     */
+    public long getSessionTickBudgetMillis() {
+        return 10;
+    }
+
+    /**
+     * Used to get the amount of ticks between each
+     * {@link SessionScheduler} report.
+     * <p>
+     * The report is only logged when the api's
+     * logger is in debug mode.
+     *
+     * @return The amount of ticks between each report.
+     * Defaults to 6000, which is 5 minutes. 0 or less disables the report.
+     */
+    public long getSessionReportIntervalTicks() {
+        return 6000;
+    }
+
     /**
      * Called when the plugin is enabled.
      * <p>
@@ -160,12 +237,30 @@ public abstract class CozyGamesPlugin<
             this.getApi().getMapManager().registerMap(map);
         }
 
+        // Set up the arena grid.
+        if (this.getArenaGridSpacing() > 0) {
+            this.arenaGrid = new ArenaGrid(this.getArenaGridSpacing(), this.getArenaGridColumns());
+        }
+
         // Set up the arena configuration directory.
         this.arenaConfiguration = new ArenaConfiguration<>(this);
         this.arenaConfiguration.reload();
 
+        // Reserve the slots of arenas that are already loaded.
+        if (this.arenaGrid != null) {
+            for (Arena<A, M> arena : this.getArenaConfiguration().getAllTypes()) {
+                arena.getSlot().ifPresent(slot -> this.arenaGrid.reserve(arena.getWorldName(), slot));
+            }
+        }
+
+        // Set up the arena pool and start building idle arenas.
+        this.arenaPool = new ArenaPool<>(this, this.getArenaPoolSize());
+        for (Map<M> map : this.getMapConfiguration().getAllTypes()) {
+            this.arenaPool.replenish(map.getIdentifier());
+        }
+
         // Set up the session manager.
-        this.sessionManager = new SessionManager<>();
+        this.sessionManager = new SessionManager<>(this.getSessionTickBudgetMillis());
 
         // Call the on enable method to indicate this
         // class has finished setting up.
@@ -186,6 +281,10 @@ public abstract class CozyGamesPlugin<
         // Call the on disable method before disabling.
         this.onDisable();
 
+        // Stop building idle arenas.
+        // The idle arenas are removed with the other arenas.
+        this.arenaPool.close();
+
         // Stop sessions.
         this.sessionManager.stopAllSessions();
         this.sessionManager.removeAllSessions();
@@ -239,6 +338,49 @@ public abstract class CozyGamesPlugin<
         return this.arenaConfiguration;
     }
 
+    /**
+     * Used to get the instance of the arena grid.
+     * <p>
+     * This will be empty when {@link CozyGamesPlugin#getArenaGridSpacing()}
+     * is 0, and each arena has its own world.
+     *
+     * @return The optional arena grid.
+     */
+    public @NotNull Optional<ArenaGrid> getArenaGrid() {
+        return Optional.ofNullable(this.arenaGrid);
+    }
+
+    /**
+     * Used to create a new unique arena identifier for a map.
+     * <p>
+     * If the {@link ArenaGrid} is enabled, this will allocate
+     * a slot in the map's shared grid world.
+     * Otherwise, a unique world name is generated.
+     *
+     * @param mapIdentifier The map identifier.
+     * @return The new arena identifier.
+     */
+    public @NotNull String createArenaIdentifier(@NotNull String mapIdentifier) {
+
+        // Check if each arena should have its own world.
+        if (this.arenaGrid == null) {
+            return Arena.getIdentifier(mapIdentifier, Arena.generateWorldName(mapIdentifier));
+        }
+
+        return this.arenaGrid.createArenaIdentifier(mapIdentifier);
+    }
+
+    /**
+     * Used to get the instance of the arena pool.
+     * <p>
+     * Contains idle arenas for each map.
+     *
+     * @return The instance of the arena pool.
+     */
+    public @NotNull ArenaPool<A, M> getArenaPool() {
+        return this.arenaPool;
+    }
+
     /**
      * Used to get the instance of this plugin's session manager.
      *
@@ -0,0 +1,407 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.queue;
+
+import com.github.cozygames.api.group.Group;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Represents the queue of groups waiting to play a game.
+ * <p>
+ * Groups are stored in buckets based on their member amount,
+ * so a match can be found by only checking how many groups of
+ * each size are waiting. Every group that is already waiting
+ * could not be matched, so a new match must contain the group
+ * that was just added. This means the queue is never fully
+ * rescanned when a group is added.
+ * <p>
+ * Groups of the same size are matched in the order they joined.
+ */
+public class GameQueue {
+
+    private static final int MINIMUM_COMPACT_AMOUNT = 64;
+
+    private final @NotNull String gameIdentifier;
+    private final @NotNull Map<UUID, Entry> entryMap;
+    private final @NotNull List<ArrayDeque<Entry>> bucketList;
+    private int @NotNull [] sizeAmounts;
+    private int @NotNull [] capacities;
+    private long catalogVersion;
+    private int memberAmount;
+    private int removedAmount;
+
+    /**
+     * Represents a group waiting in the queue.
+     *
+     * @param group The instance of the group.
+     * @param size  The amount of members in the group when it joined.
+     */
+    private record Entry(@NotNull Group group, int size) {
+    }
+
+    /**
+     * Used to create a new game queue.
+     *
+     * @param gameIdentifier The identifier of the game being queued for.
+     */
+    public GameQueue(@NotNull String gameIdentifier) {
+        this.gameIdentifier = gameIdentifier;
+        this.entryMap = new LinkedHashMap<>();
+        this.bucketList = new ArrayList<>();
+        this.sizeAmounts = new int[1];
+        this.capacities = new int[0];
+        this.catalogVersion = -1;
+    }
+
+    /**
+     * Used to get the identifier of the game
+     * this queue is for.
+     *
+     * @return The game identifier.
+     */
+    public @NotNull String getGameIdentifier() {
+        return this.gameIdentifier;
+    }
+
+    /**
+     * Used to get the member amounts a match can have.
+     * <p>
+     * These are the possible capacities of the game's maps,
+     * ordered from largest to smallest.
+     *
+     * @return A copy of the capacities.
+     */
+    public synchronized int @NotNull [] getCapacities() {
+        return this.capacities.clone();
+    }
+
+    /**
+     * Used to set the member amounts a match can have.
+     *
+     * @param capacities     The possible capacities of the game's maps.
+     * @param catalogVersion The map catalog version they were read from.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public synchronized @NotNull GameQueue setCapacities(@NotNull Collection<Integer> capacities, long catalogVersion) {
+        this.capacities = capacities.stream()
+                .filter(capacity -> capacity > 0)
+                .distinct()
+                .sorted((a, b) -> Integer.compare(b, a))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        this.catalogVersion = catalogVersion;
+        return this;
+    }
+
+    /**
+     * Used to get the map catalog version the
+     * capacities were last read from.
+     *
+     * @return The catalog version.
+     */
+    @ApiStatus.Internal
+    public synchronized long getCatalogVersion() {
+        return this.catalogVersion;
+    }
+
+    /**
+     * Used to check if a group is waiting in this queue.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return True if the group is waiting.
+     */
+    public synchronized boolean contains(@NotNull UUID groupIdentifier) {
+        return this.entryMap.containsKey(groupIdentifier);
+    }
+
+    /**
+     * Used to get the amount of groups waiting.
+     *
+     * @return The amount of groups.
+     */
+    public synchronized int getGroupAmount() {
+        return this.entryMap.size();
+    }
+
+    /**
+     * Used to get the amount of members waiting.
+     *
+     * @return The amount of members.
+     */
+    public synchronized int getMemberAmount() {
+        return this.memberAmount;
+    }
+
+    /**
+     * Used to get the list of groups waiting,
+     * in the order they joined.
+     *
+     * @return A copy of the group list.
+     */
+    public synchronized @NotNull List<Group> getGroupList() {
+        return this.entryMap.values().stream().map(Entry::group).toList();
+    }
+
+    /**
+     * Used to add a group to the queue and attempt
+     * to match it with the groups already waiting.
+     * <p>
+     * Groups without members or groups that are already
+     * waiting will not be added.
+     *
+     * @param group The instance of the group.
+     * @return The optional list of matched groups. The matched
+     * groups are removed from the queue.
+     */
+    public synchronized @NotNull Optional<List<Group>> add(@NotNull Group group) {
+        final int size = group.getMembers().size();
+        if (size == 0) return Optional.empty();
+        if (this.entryMap.containsKey(group.getIdentifier())) return Optional.empty();
+
+        final Entry entry = new Entry(group, size);
+        this.entryMap.put(group.getIdentifier(), entry);
+        this.getBucket(size).addLast(entry);
+        this.sizeAmounts[size]++;
+        this.memberAmount += size;
+
+        return this.match(entry);
+    }
+
+    /**
+     * Used to add groups back to the front of the queue.
+     * <p>
+     * This is used when a match could not be given an arena.
+     * The groups will not be matched until another group joins
+     * or {@link GameQueue#matchAll()} is called.
+     *
+     * @param groupList The list of groups.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public synchronized @NotNull GameQueue addFirst(@NotNull List<Group> groupList) {
+        for (int index = groupList.size() - 1; index >= 0; index--) {
+            final Group group = groupList.get(index);
+            final int size = group.getMembers().size();
+            if (size == 0 || this.entryMap.containsKey(group.getIdentifier())) continue;
+
+            final Entry entry = new Entry(group, size);
+            this.entryMap.put(group.getIdentifier(), entry);
+            this.getBucket(size).addFirst(entry);
+            this.sizeAmounts[size]++;
+            this.memberAmount += size;
+        }
+        return this;
+    }
+
+    /**
+     * Used to remove a group from the queue.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return True if the group was waiting in the queue.
+     */
+    public synchronized boolean remove(@NotNull UUID groupIdentifier) {
+        final Entry entry = this.entryMap.get(groupIdentifier);
+        if (entry == null) return false;
+
+        // The entry is left in its bucket and
+        // skipped when the bucket is polled.
+        this.removeEntry(entry);
+        this.removedAmount++;
+        this.compactIfNeeded();
+        return true;
+    }
+
+    /**
+     * Used to attempt to match every group in the queue.
+     * <p>
+     * This only needs to be called when the capacities
+     * change or arenas become available.
+     *
+     * @return The list of matches. Each match is a list of groups.
+     */
+    public synchronized @NotNull List<List<Group>> matchAll() {
+        final List<List<Group>> matchList = new ArrayList<>();
+
+        // Removing groups can't make another match possible,
+        // so each group only needs to be checked once.
+        for (Entry entry : new ArrayList<>(this.entryMap.values())) {
+            if (this.entryMap.get(entry.group().getIdentifier()) != entry) continue;
+            this.match(entry).ifPresent(matchList::add);
+        }
+
+        return matchList;
+    }
+
+    /**
+     * Used to attempt to find a match that contains an entry.
+     * <p>
+     * Capacities are checked from largest to smallest.
+     *
+     * @param entry The entry that must be in the match.
+     * @return The optional list of matched groups.
+     */
+    private @NotNull Optional<List<Group>> match(@NotNull Entry entry) {
+
+        // Exclude the entry from the amounts while searching.
+        this.sizeAmounts[entry.size()]--;
+
+        int[] takeAmounts = null;
+        for (int capacity : this.capacities) {
+            final int remaining = capacity - entry.size();
+            if (remaining < 0) continue;
+
+            takeAmounts = this.findSizes(remaining);
+            if (takeAmounts != null) break;
+        }
+
+        this.sizeAmounts[entry.size()]++;
+        if (takeAmounts == null) return Optional.empty();
+
+        // Remove the entry and the chosen groups from the queue.
+        final List<Group> groupList = new ArrayList<>();
+        groupList.add(entry.group());
+        this.removeEntry(entry);
+        this.removedAmount++;
+
+        for (int size = 1; size < takeAmounts.length; size++) {
+            final ArrayDeque<Entry> bucket = this.bucketList.get(size);
+
+            while (takeAmounts[size] > 0) {
+                final Entry polled = bucket.pollFirst();
+                if (polled == null) break;
+
+                // Skip entries that have already been removed.
+                if (this.entryMap.get(polled.group().getIdentifier()) != polled) {
+                    this.removedAmount--;
+                    continue;
+                }
+
+                this.removeEntry(polled);
+                groupList.add(polled.group());
+                takeAmounts[size]--;
+            }
+        }
+
+        return Optional.of(groupList);
+    }
+
+    /**
+     * Used to find an amount of groups of each size
+     * that add up to a member amount.
+     * <p>
+     * This is a bounded subset sum over the group sizes,
+     * which only depends on the member amount and not
+     * on the amount of groups waiting.
+     *
+     * @param remaining The member amount to reach.
+     * @return The amount of groups to take for each size,
+     * or null if the member amount can't be reached.
+     */
+    private int @Nullable [] findSizes(int remaining) {
+        final int[] takeAmounts = new int[this.sizeAmounts.length];
+        if (remaining == 0) return takeAmounts;
+
+        // The size last used to reach each total.
+        // 0 means the total can't be reached yet.
+        final int[] lastSize = new int[remaining + 1];
+        final int[] usedAmount = new int[remaining + 1];
+        lastSize[0] = -1;
+
+        // Check larger groups first, so fewer groups are used.
+        for (int size = Math.min(remaining, this.sizeAmounts.length - 1); size >= 1; size--) {
+            final int amount = this.sizeAmounts[size];
+            if (amount == 0) continue;
+
+            Arrays.fill(usedAmount, 0);
+            for (int total = size; total <= remaining; total++) {
+                if (lastSize[total] != 0 || lastSize[total - size] == 0) continue;
+                if (usedAmount[total - size] >= amount) continue;
+
+                lastSize[total] = size;
+                usedAmount[total] = usedAmount[total - size] + 1;
+            }
+
+            if (lastSize[remaining] != 0) break;
+        }
+
+        if (lastSize[remaining] == 0) return null;
+
+        // Walk back through the sizes used.
+        for (int total = remaining; total > 0; total -= lastSize[total]) {
+            takeAmounts[lastSize[total]]++;
+        }
+        return takeAmounts;
+    }
+
+    /**
+     * Used to get the bucket of entries with
+     * a certain size, creating it if needed.
+     *
+     * @param size The group size.
+     * @return The bucket.
+     */
+    private @NotNull ArrayDeque<Entry> getBucket(int size) {
+        while (this.bucketList.size() <= size) {
+            this.bucketList.add(new ArrayDeque<>());
+        }
+        if (this.sizeAmounts.length <= size) {
+            this.sizeAmounts = Arrays.copyOf(this.sizeAmounts, size + 1);
+        }
+        return this.bucketList.get(size);
+    }
+
+    /**
+     * Used to remove an entry from the index and amounts.
+     *
+     * @param entry The entry to remove.
+     */
+    private void removeEntry(@NotNull Entry entry) {
+        this.entryMap.remove(entry.group().getIdentifier());
+        this.sizeAmounts[entry.size()]--;
+        this.memberAmount -= entry.size();
+    }
+
+    /**
+     * Used to remove entries that are no longer in the
+     * queue from the buckets, once there are enough of them.
+     */
+    private void compactIfNeeded() {
+        if (this.removedAmount < MINIMUM_COMPACT_AMOUNT) return;
+        if (this.removedAmount < this.entryMap.size()) return;
+
+        for (ArrayDeque<Entry> bucket : this.bucketList) {
+            bucket.removeIf(entry -> this.entryMap.get(entry.group().getIdentifier()) != entry);
+        }
+        this.removedAmount = 0;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.queue;
+
+import com.github.cozygames.api.CozyGames;
+import com.github.cozygames.api.arena.ArenaFilter;
+import com.github.cozygames.api.arena.GlobalArena;
+import com.github.cozygames.api.group.Group;
+import com.github.cozygames.api.logger.Logger;
+import com.github.cozygames.api.map.GlobalMap;
+import com.github.cozygames.api.map.MapFilter;
+import com.github.cozygames.api.member.MemberCapacity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the queue manager.
+ * <p>
+ * Used to queue {@link Group}s for a game and match them
+ * into games using the possible capacities of the game's maps.
+ * <p>
+ * Each game identifier has its own {@link GameQueue}. A group is
+ * matched as soon as it is added, if the groups waiting can fill
+ * one of the capacities. A free arena is then found with the
+ * {@link com.github.cozygames.api.arena.ArenaManager} and activated
+ * with the matched members.
+ * <p>
+ * If no arena is free, the groups are added back to the front
+ * of the queue and the game is matched again after a delay,
+ * which doubles each time no arena is found.
+ */
+public class QueueManager {
+
+    private static final long ARENA_CLAIM_MILLIS = 10000;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final int MAXIMUM_RETRY_SHIFT = 5;
+
+    private final @NotNull CozyGames api;
+    private final @NotNull Logger logger;
+    private final @NotNull ConcurrentHashMap<String, GameQueue> queueMap;
+    private final @NotNull ConcurrentHashMap<UUID, String> groupIndex;
+    private final @NotNull ConcurrentHashMap<String, Long> claimedArenaMap;
+    private final @NotNull ConcurrentHashMap<String, Integer> retryAmountMap;
+    private final @NotNull Set<String> scheduledRetrySet;
+
+    /**
+     * Used to create a new queue manager.
+     * <p>
+     * This should only be created by the
+     * internal api implementation.
+     *
+     * @param api The instance of the api.
+     */
+    @ApiStatus.Internal
+    public QueueManager(@NotNull CozyGames api) {
+        this.api = api;
+        this.logger = api.getPlugin().getLogger().createExtension("&7[QueueManager] &5");
+        this.queueMap = new ConcurrentHashMap<>();
+        this.groupIndex = new ConcurrentHashMap<>();
+        this.claimedArenaMap = new ConcurrentHashMap<>();
+        this.retryAmountMap = new ConcurrentHashMap<>();
+        this.scheduledRetrySet = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Used to get the queue for a game.
+     *
+     * @param gameIdentifier The game identifier.
+     * @return The optional game queue.
+     */
+    public @NotNull Optional<GameQueue> getQueue(@NotNull String gameIdentifier) {
+        return Optional.ofNullable(this.queueMap.get(gameIdentifier));
+    }
+
+    /**
+     * Used to get the list of game queues.
+     *
+     * @return The list of game queues.
+     */
+    public @NotNull List<GameQueue> getQueueList() {
+        return List.copyOf(this.queueMap.values());
+    }
+
+    /**
+     * Used to check if a group is waiting in a queue.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return True if the group is queued.
+     */
+    public boolean isQueued(@NotNull UUID groupIdentifier) {
+        return this.groupIndex.containsKey(groupIdentifier);
+    }
+
+    /**
+     * Used to add a group to the queue of its game.
+     * <p>
+     * The group is queued for its {@link Group#getGameIdentifier()}.
+     * If it was queued for another game, it will be removed
+     * from that queue first.
+     *
+     * @param group The instance of the group.
+     * @return The optional match the group was put in.
+     */
+    public @NotNull Optional<QueueMatch> enqueue(@NotNull Group group) {
+        final String gameIdentifier = group.getGameIdentifier();
+        final GameQueue queue = this.queueMap.computeIfAbsent(gameIdentifier, GameQueue::new);
+
+        // Remove the group from the queue it was in before.
+        final String previousGameIdentifier = this.groupIndex.put(group.getIdentifier(), gameIdentifier);
+        if (previousGameIdentifier != null && !previousGameIdentifier.equals(gameIdentifier)) {
+            this.getQueue(previousGameIdentifier).ifPresent(previous -> previous.remove(group.getIdentifier()));
+        }
+
+        final List<List<Group>> matchList;
+        final Optional<List<Group>> groupMatch;
+        synchronized (queue) {
+            matchList = this.refreshCapacities(queue);
+            groupMatch = queue.add(group);
+        }
+
+        // Create the matches found while refreshing.
+        matchList.forEach(groupList -> this.createMatch(gameIdentifier, groupList));
+
+        // Check if the group was queued.
+        if (groupMatch.isEmpty()) {
+            if (!queue.contains(group.getIdentifier())) this.groupIndex.remove(group.getIdentifier(), gameIdentifier);
+            return Optional.empty();
+        }
+
+        return Optional.of(this.createMatch(gameIdentifier, groupMatch.get()));
+    }
+
+    /**
+     * Used to remove a group from the queue it is in.
+     * <p>
+     * Groups in a match that is waiting for an
+     * arena are no longer in the queue.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return True if the group was removed.
+     */
+    public boolean dequeue(@NotNull UUID groupIdentifier) {
+        final String gameIdentifier = this.groupIndex.remove(groupIdentifier);
+        if (gameIdentifier == null) return false;
+
+        final GameQueue queue = this.queueMap.get(gameIdentifier);
+        return queue != null && queue.remove(groupIdentifier);
+    }
+
+    /**
+     * Used to attempt to match every group waiting for a game.
+     * <p>
+     * Groups that could not be given an arena are matched
+     * again automatically, but this can be called when arenas
+     * become available to match them straight away.
+     *
+     * @param gameIdentifier The game identifier.
+     * @return The list of matches.
+     */
+    public @NotNull List<QueueMatch> match(@NotNull String gameIdentifier) {
+        final GameQueue queue = this.queueMap.get(gameIdentifier);
+        if (queue == null) return List.of();
+
+        final List<List<Group>> matchList;
+        synchronized (queue) {
+            matchList = new ArrayList<>(this.refreshCapacities(queue));
+            matchList.addAll(queue.matchAll());
+        }
+
+        return matchList.stream()
+                .map(groupList -> this.createMatch(gameIdentifier, groupList))
+                .toList();
+    }
+
+    /**
+     * Used to update the capacities of a queue if
+     * the map catalog has changed since they were read.
+     * <p>
+     * If they changed, every group is checked for a match.
+     *
+     * @param queue The instance of the queue.
+     * @return The list of matches.
+     */
+    private @NotNull List<List<Group>> refreshCapacities(@NotNull GameQueue queue) {
+        final long catalogVersion = this.api.getMapManager().getCatalogVersion();
+        if (catalogVersion == queue.getCatalogVersion()) return List.of();
+
+        // Collect the possible capacities of the game's maps.
+        final Set<Integer> capacitySet = new HashSet<>();
+        final MapFilter filter = new MapFilter().setGameIdentifierFilter(queue.getGameIdentifier());
+        for (GlobalMap map : this.api.getMapManager().getMapList(filter)) {
+            map.getCapacity().ifPresent(capacity -> capacitySet.addAll(capacity.getPossibleCapacityList()));
+        }
+
+        queue.setCapacities(capacitySet, catalogVersion);
+        return queue.matchAll();
+    }
+
+    /**
+     * Used to create a match and find it an arena
+     * using the {@link CozyGames#getDatabaseExecutor()}.
+     *
+     * @param gameIdentifier The game identifier.
+     * @param groupList      The list of matched groups.
+     * @return The instance of the match.
+     */
+    private @NotNull QueueMatch createMatch(@NotNull String gameIdentifier, @NotNull List<Group> groupList) {
+        final QueueMatch match = new QueueMatch(gameIdentifier, groupList);
+        groupList.forEach(group -> this.groupIndex.remove(group.getIdentifier(), gameIdentifier));
+
+        this.logger.debug("Matched &f" + match.getMemberAmount() + " &5members for the game &f" + gameIdentifier + "&5.");
+
+        this.api.supplyDatabaseAsync(() -> this.assignArena(match))
+                .whenComplete((arena, exception) -> {
+                    if (exception == null) {
+                        match.getArenaFuture().complete(arena);
+                        return;
+                    }
+
+                    // Check if the database executor was full,
+                    // as the groups were not added back to the queue.
+                    if (exception instanceof RejectedExecutionException) {
+                        this.requeue(gameIdentifier, match.getGroupList());
+                    }
+
+                    this.logger.warn("Unable to find an arena for a match in the game &f" + gameIdentifier + "&7. " + exception.getMessage());
+                    this.scheduleRetry(gameIdentifier);
+                    match.getArenaFuture().completeExceptionally(exception);
+                });
+
+        return match;
+    }
+
+    /**
+     * Used to find a free arena for a match and activate it.
+     * <p>
+     * If no arena is available, or the arena can't be activated,
+     * the groups are added back to the front of the queue.
+     *
+     * @param match The instance of the match.
+     * @return The optional arena that was activated.
+     */
+    private @NotNull Optional<GlobalArena> assignArena(@NotNull QueueMatch match) {
+        final String gameIdentifier = match.getGameIdentifier();
+        List<Group> requeueList = match.getGroupList();
+        GlobalArena arena = null;
+
+        try {
+            arena = this.claimArena(match).orElse(null);
+            if (arena == null) {
+                this.logger.debug("No arena available for a match in the game &f" + gameIdentifier + "&5.");
+                this.requeue(gameIdentifier, requeueList);
+                this.scheduleRetry(gameIdentifier);
+                return Optional.empty();
+            }
+
+            // Once merged, the matched groups may have been deleted,
+            // so the merged group is queued again instead.
+            final Group group = this.mergeGroups(match);
+            requeueList = List.of(group);
+
+            arena.activate(group.getIdentifier());
+            this.retryAmountMap.remove(gameIdentifier);
+            return Optional.of(arena);
+
+        } catch (RuntimeException exception) {
+            if (arena != null) this.claimedArenaMap.remove(arena.getIdentifier());
+            this.requeue(gameIdentifier, requeueList);
+            throw exception;
+        }
+    }
+
+    /**
+     * Used to find a free arena that can fit the
+     * members of a match and claim it.
+     * <p>
+     * Claimed arenas are skipped by other matches for a short
+     * time, while the arena is activated on its server.
+     *
+     * @param match The instance of the match.
+     * @return The optional claimed arena.
+     */
+    private @NotNull Optional<GlobalArena> claimArena(@NotNull QueueMatch match) {
+        final ArenaFilter filter = new ArenaFilter();
+        filter.setGameIdentifierFilter(match.getGameIdentifier());
+        filter.setMemberCapacityFilter(new MemberCapacity(List.of(match.getMemberAmount())));
+
+        // Remove expired claims.
+        final long now = System.currentTimeMillis();
+        this.claimedArenaMap.values().removeIf(claimedUntil -> claimedUntil <= now);
+
+        for (GlobalArena arena : this.api.getArenaManager().getArenaList(filter)) {
+            if (arena.isActive()) continue;
+            if (this.claimedArenaMap.putIfAbsent(arena.getIdentifier(), now + ARENA_CLAIM_MILLIS) != null) continue;
+            return Optional.of(arena);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Used to combine the groups in a match into
+     * a single group that can activate an arena.
+     * <p>
+     * If there is more than one group, a new group is saved
+     * and then the matched groups are deleted.
+     *
+     * @param match The instance of the match.
+     * @return The group that will play the game.
+     */
+    private @NotNull Group mergeGroups(@NotNull QueueMatch match) {
+        if (match.getGroupList().size() == 1) return match.getGroupList().get(0);
+
+        final Group group = new Group(UUID.randomUUID(), match.getGameIdentifier());
+        for (Group matchedGroup : match.getGroupList()) {
+            group.addMemberList(matchedGroup.getMembers());
+        }
+        group.save();
+
+        // Delete the matched groups.
+        for (Group matchedGroup : match.getGroupList()) {
+            try {
+                matchedGroup.delete();
+            } catch (RuntimeException exception) {
+                this.logger.warn("Unable to delete the merged group &f" + matchedGroup.getIdentifier() + "&7. " + exception.getMessage());
+            }
+        }
+
+        return group;
+    }
+
+    /**
+     * Used to add groups back to the
+     * front of their game's queue.
+     *
+     * @param gameIdentifier The game identifier.
+     * @param groupList      The list of groups.
+     */
+    private void requeue(@NotNull String gameIdentifier, @NotNull List<Group> groupList) {
+        final GameQueue queue = this.queueMap.computeIfAbsent(gameIdentifier, GameQueue::new);
+
+        groupList.forEach(group -> this.groupIndex.put(group.getIdentifier(), gameIdentifier));
+        queue.addFirst(groupList);
+    }
+
+    /**
+     * Used to match the groups waiting for a game again
+     * after a delay, as they couldn't be given an arena.
+     * <p>
+     * The delay doubles each time, until an arena is found.
+     * Only one retry is scheduled for each game at a time.
+     *
+     * @param gameIdentifier The game identifier.
+     */
+    private void scheduleRetry(@NotNull String gameIdentifier) {
+        if (!this.scheduledRetrySet.add(gameIdentifier)) return;
+
+        final int retryAmount = this.retryAmountMap.merge(gameIdentifier, 1, Integer::sum);
+        final long delayMillis = RETRY_DELAY_MILLIS << Math.min(retryAmount - 1, MAXIMUM_RETRY_SHIFT);
+
+        CompletableFuture.runAsync(() -> {
+            this.scheduledRetrySet.remove(gameIdentifier);
+            this.match(gameIdentifier);
+        }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, runnable -> {
+            try {
+                this.api.getDatabaseExecutor().execute(runnable);
+            } catch (RejectedExecutionException exception) {
+
+                // The groups will be matched again
+                // when the next group is added.
+                this.scheduledRetrySet.remove(gameIdentifier);
+                this.logger.warn("Unable to match the groups waiting for the game &f" + gameIdentifier + "&7 again. " + exception.getMessage());
+            }
+        }));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.queue;
+
+import com.github.cozygames.api.arena.GlobalArena;
+import com.github.cozygames.api.group.Group;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a set of groups from a {@link GameQueue}
+ * that were matched to play a game together.
+ * <p>
+ * The arena is found asynchronously. If no arena is
+ * available, the groups are added back to the front
+ * of the queue and the arena future completes empty.
+ */
+public class QueueMatch {
+
+    private final @NotNull String gameIdentifier;
+    private final @NotNull List<Group> groupList;
+    private final @NotNull CompletableFuture<Optional<GlobalArena>> arenaFuture;
+
+    /**
+     * Used to create a new queue match.
+     * <p>
+     * This should only be created by the {@link QueueManager}.
+     *
+     * @param gameIdentifier The identifier of the game.
+     * @param groupList      The list of matched groups.
+     */
+    @ApiStatus.Internal
+    public QueueMatch(@NotNull String gameIdentifier, @NotNull List<Group> groupList) {
+        this.gameIdentifier = gameIdentifier;
+        this.groupList = List.copyOf(groupList);
+        this.arenaFuture = new CompletableFuture<>();
+    }
+
+    /**
+     * Used to get the identifier of the game
+     * the groups were matched for.
+     *
+     * @return The game identifier.
+     */
+    public @NotNull String getGameIdentifier() {
+        return this.gameIdentifier;
+    }
+
+    /**
+     * Used to get the list of matched groups.
+     *
+     * @return The list of groups.
+     */
+    public @NotNull List<Group> getGroupList() {
+        return this.groupList;
+    }
+
+    /**
+     * Used to get the total amount of members
+     * in the matched groups.
+     *
+     * @return The amount of members.
+     */
+    public int getMemberAmount() {
+        int memberAmount = 0;
+        for (Group group : this.groupList) {
+            memberAmount += group.getMembers().size();
+        }
+        return memberAmount;
+    }
+
+    /**
+     * Used to get the future arena the groups will play in.
+     * <p>
+     * Completes empty if no arena was available.
+     *
+     * @return The future optional arena.
+     */
+    public @NotNull CompletableFuture<Optional<GlobalArena>> getArenaFuture() {
+        return this.arenaFuture;
+    }
+}
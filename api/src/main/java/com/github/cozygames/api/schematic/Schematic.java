@@ -20,20 +20,74 @@ package com.github.cozygames.api.schematic;
 
 import com.github.smuddgge.squishyconfiguration.indicator.ConfigurationConvertable;
 import com.github.smuddgge.squishyconfiguration.interfaces.ConfigurationSection;
+import com.github.smuddgge.squishyconfiguration.memory.MemoryConfigurationSection;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Optional;
 
 /**
  * Represents a schematic that can be built in a world.
+ * <p>
+ * The identifier is the name of the schematic file
+ * without the file extension.
  */
 public class Schematic implements ConfigurationConvertable<Schematic> {
 
+    private @Nullable String identifier;
+
+    /**
+     * Used to create an empty schematic.
+     * <p>
+     * The identifier can be set using
+     * {@link Schematic#convert(ConfigurationSection)}.
+     */
+    public Schematic() {
+    }
+
+    /**
+     * Used to create a schematic instance.
+     *
+     * @param identifier The schematic identifier without the file extension.
+     */
+    public Schematic(@NotNull String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Used to get the schematic's identifier.
+     * <p>
+     * This is the name of the schematic file
+     * without the file extension.
+     *
+     * @return The optional schematic identifier.
+     */
+    public @NotNull Optional<String> getIdentifier() {
+        return Optional.ofNullable(this.identifier);
+    }
+
+    /**
+     * Used to set the schematic's identifier.
+     *
+     * @param identifier The schematic identifier without the file extension.
+     * @return This instance.
+     */
+    public @NotNull Schematic setIdentifier(@Nullable String identifier) {
+        this.identifier = identifier;
+        return this;
+    }
+
     @Override
     public @NotNull ConfigurationSection convert() {
-        return null;
+        ConfigurationSection section = new MemoryConfigurationSection(new LinkedHashMap<>());
+        if (this.identifier != null) section.set("identifier", this.identifier);
+        return section;
     }
 
     @Override
-    public @NotNull Schematic convert(@NotNull ConfigurationSection configurationSection) {
-        return null;
+    public @NotNull Schematic convert(@NotNull ConfigurationSection section) {
+        this.identifier = section.getString("identifier", null);
+        return this;
     }
 }
@@ -22,11 +22,16 @@ import com.github.cozygames.api.arena.Arena;
 import com.github.cozygames.api.group.Group;
 import com.github.cozygames.api.map.Map;
 import com.github.cozygames.api.plugin.CozyGamesPlugin;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 /**
  * Represents a game session.
@@ -41,7 +46,10 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
 
     private final @NotNull String arenaIdentifier;
     private final @NotNull List<SessionComponent<A, M>> sessionComponentList;
+    private final @NotNull java.util.Map<Class<?>, SessionComponent<A, M>> sessionComponentMap;
+    private @NotNull SessionComponent<?, ?>[] keyedComponents;
     private final @NotNull Group group;
+    private volatile @Nullable A arena;
 
     /**
      * Used to create a new session instance.
@@ -51,7 +59,10 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
     public Session(@NotNull String arenaIdentifier) {
         this.arenaIdentifier = arenaIdentifier;
         this.sessionComponentList = new ArrayList<>();
-        this.group = this.getArena().getGroup().orElseThrow();
+        this.sessionComponentMap = new IdentityHashMap<>();
+        this.keyedComponents = new SessionComponent<?, ?>[0];
+        this.arena = this.getArenaFromConfiguration().orElseThrow();
+        this.group = this.arena.getGroup().orElseThrow();
     }
 
     /**
@@ -66,19 +77,52 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
     }
 
     /**
-     * Used to get the instance of the arena via
-     * the arena configuration in the related plugin.
+     * Used to get the instance of the arena.
+     * <p>
+     * The arena is bound when the session is created and
+     * updated when the arena is saved, so this will not
+     * read the arena configuration in hot paths.
      * <p>
      * All arena session should be stopped before the
      * arena instance is deleted.
      *
-     * @return The optional arena.
+     * @return The arena.
      * @throws NoSuchElementException When the arena no longer exists.
      */
     public @NotNull A getArena() {
+        final A arena = this.arena;
+        if (arena != null) return arena;
+
+        // The arena was deleted, so check if it has been saved again.
+        final A loadedArena = this.getArenaFromConfiguration().orElseThrow();
+        this.arena = loadedArena;
+        return loadedArena;
+    }
+
+    /**
+     * Used to set the instance of the arena this session is bound to.
+     * <p>
+     * This is called when the arena is saved or deleted
+     * from the local configuration.
+     *
+     * @param arena The arena instance or null if it was deleted.
+     * @return This instance.
+     */
+    @ApiStatus.Internal
+    public @NotNull Session<A, M> setArena(@Nullable A arena) {
+        this.arena = arena;
+        return this;
+    }
+
+    /**
+     * Used to get the instance of the arena via
+     * the arena configuration in the related plugin.
+     *
+     * @return The optional arena.
+     */
+    private @NotNull Optional<A> getArenaFromConfiguration() {
         return this.getPlugin().getArenaConfiguration()
-                .getType(this.getArenaIdentifier())
-                .orElseThrow();
+                .getType(this.getArenaIdentifier());
     }
 
     /**
@@ -98,6 +142,9 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
 
     /**
      * Used to get the instance of a specific session component.
+     * <p>
+     * Components are stored by their class, so this
+     * is a single map lookup.
      *
      * @param clazz The session component class.
      * @return The registered session component.
@@ -106,13 +153,8 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
      */
     @SuppressWarnings("all")
     public <C extends SessionComponent<A, M>> @NotNull C getComponent(@NotNull Class<C> clazz) {
-        for (SessionComponent<A, M> sessionComponent : this.sessionComponentList) {
-
-            // Check if the class name are the same.
-            if (sessionComponent.getClass().getName().equals(clazz.getName())) {
-                return (C) sessionComponent;
-            }
-        }
+        final SessionComponent<A, M> sessionComponent = this.sessionComponentMap.get(clazz);
+        if (sessionComponent != null) return (C) sessionComponent;
 
         throw new NoSuchElementException(
                 "Attempted to get the session component " + clazz
@@ -121,27 +163,72 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
         );
     }
 
+    /**
+     * Used to get the instance of a specific session component
+     * using a precomputed key.
+     * <p>
+     * After the first lookup, this is a single array lookup.
+     * This should be used in frequently called game logic.
+     *
+     * @param key The session component key.
+     * @return The registered session component.
+     * @throws NoSuchElementException When the session component isnt
+     *                                registered with this session.
+     */
+    @SuppressWarnings("all")
+    public <C extends SessionComponent<A, M>> @NotNull C getComponent(@NotNull SessionComponentKey<C> key) {
+        final int index = key.getIndex();
+
+        // Check if the component has already been looked up.
+        if (index < this.keyedComponents.length) {
+            final SessionComponent<?, ?> sessionComponent = this.keyedComponents[index];
+            if (sessionComponent != null) return (C) sessionComponent;
+        }
+
+        // Look up the component and store it for next time.
+        final C sessionComponent = this.getComponent(key.getComponentClass());
+        if (index >= this.keyedComponents.length) {
+            this.keyedComponents = Arrays.copyOf(this.keyedComponents, index + 1);
+        }
+        this.keyedComponents[index] = sessionComponent;
+        return sessionComponent;
+    }
+
     /**
      * Used to register a component in this session instance.
      * <p>
      * You can then get this component back from the
      * {@link Session#getComponent(Class)} method.
+     * If a component of the same class is already
+     * registered, it will be stopped and replaced.
      *
      * @param sessionComponent The instance of the session component.
      * @return This instance.
      */
     public @NotNull Session<A, M> registerComponent(@NotNull SessionComponent<A, M> sessionComponent) {
+        final SessionComponent<A, M> previous = this.sessionComponentMap.put(sessionComponent.getClass(), sessionComponent);
+        if (previous == sessionComponent) return this;
+
+        // Stop the component that was replaced.
+        if (previous != null) {
+            this.removeComponent(previous);
+            previous.stop();
+            previous.cancelTicks();
+        }
+
         this.sessionComponentList.add(sessionComponent);
         return this;
     }
 
     public @NotNull Session<A, M> unregisterComponent(@NotNull SessionComponent<A, M> sessionComponent) {
-        this.sessionComponentList.remove(sessionComponent);
+        this.sessionComponentMap.remove(sessionComponent.getClass(), sessionComponent);
+        this.removeComponent(sessionComponent);
         return this;
     }
 
     public <C extends SessionComponent<A, M>> @NotNull Session<A, M> unregisterComponent(@NotNull Class<C> clazz) {
-        this.sessionComponentList.removeIf(sessionComponent -> sessionComponent.getClass().getName().equals(clazz.getName()));
+        final SessionComponent<A, M> sessionComponent = this.sessionComponentMap.remove(clazz);
+        if (sessionComponent != null) this.removeComponent(sessionComponent);
         return this;
     }
 
@@ -170,4 +257,18 @@ public abstract class Session<A extends Arena<A, M>, M extends Map<M>> {
         }
         return this;
     }
+
+    /**
+     * Used to remove a component from the ordered
+     * list and the key lookup array.
+     *
+     * @param sessionComponent The instance of the session component.
+     */
+    private void removeComponent(@NotNull SessionComponent<?, ?> sessionComponent) {
+        this.sessionComponentList.remove(sessionComponent);
+
+        for (int index = 0; index < this.keyedComponents.length; index++) {
+            if (this.keyedComponents[index] == sessionComponent) this.keyedComponents[index] = null;
+        }
+    }
 }
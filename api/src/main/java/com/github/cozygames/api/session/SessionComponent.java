@@ -50,4 +50,26 @@ public interface SessionComponent<A extends Arena<A, M>, M extends Map<M>> {
      * Used to stop the session component.
      */
     void stop();
+
+    /**
+     * Used to register a tick handler for this component
+     * with the plugin's {@link SessionScheduler}.
+     * <p>
+     * This should be used instead of scheduling
+     * a repeating task on the platform.
+     *
+     * @param period   The amount of ticks between each run.
+     * @param runnable The handler to run.
+     */
+    default void scheduleTick(int period, @NotNull Runnable runnable) {
+        this.getSession().getPlugin().getSessionManager().getScheduler().register(this, period, runnable);
+    }
+
+    /**
+     * Used to unregister every tick handler
+     * registered by this component.
+     */
+    default void cancelTicks() {
+        this.getSession().getPlugin().getSessionManager().getScheduler().unregister(this);
+    }
 }
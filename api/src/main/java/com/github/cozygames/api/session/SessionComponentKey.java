@@ -0,0 +1,94 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.session;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a typed handle for a session component class.
+ * <p>
+ * Each key has a unique index, so {@link Session#getComponent(SessionComponentKey)}
+ * can find the component with a single array lookup.
+ * Keys should be created once and stored in a static field.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * public static final SessionComponentKey<ScoreboardComponent> KEY =
+ *         SessionComponentKey.of(ScoreboardComponent.class);
+ * }</pre>
+ *
+ * @param <C> The session component class.
+ */
+public final class SessionComponentKey<C extends SessionComponent<?, ?>> {
+
+    private static final @NotNull AtomicInteger NEXT_INDEX = new AtomicInteger();
+    private static final @NotNull Map<Class<?>, SessionComponentKey<?>> KEY_MAP = new ConcurrentHashMap<>();
+
+    private final @NotNull Class<C> componentClass;
+    private final int index;
+
+    private SessionComponentKey(@NotNull Class<C> componentClass, int index) {
+        this.componentClass = componentClass;
+        this.index = index;
+    }
+
+    /**
+     * Used to get the key for a session component class.
+     * <p>
+     * The same key is returned for the same class.
+     *
+     * @param componentClass The session component class.
+     * @param <C>            The session component class.
+     * @return The key for the class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends SessionComponent<?, ?>> @NotNull SessionComponentKey<C> of(@NotNull Class<C> componentClass) {
+        return (SessionComponentKey<C>) KEY_MAP.computeIfAbsent(
+                componentClass,
+                key -> new SessionComponentKey<>(componentClass, NEXT_INDEX.getAndIncrement())
+        );
+    }
+
+    /**
+     * Used to get the session component class.
+     *
+     * @return The component class.
+     */
+    public @NotNull Class<C> getComponentClass() {
+        return this.componentClass;
+    }
+
+    /**
+     * Used to get the unique index of this key.
+     *
+     * @return The index.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public String toString() {
+        return "{SessionComponentKey: {class: " + this.componentClass.getName() + ", index: " + this.index + "}}";
+    }
+}
@@ -25,12 +25,19 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a cozy game plugin's session manager.
  * <p>
  * This is used within the plugin instance to manage
  * sessions within the plugin.
+ * <p>
+ * Sessions are stored in concurrent maps keyed by arena identifier,
+ * with indexes by group identifier and member uuid.
+ * This means sessions can be looked up from any thread.
  *
  * @param <S> The session class.
  * @param <A> The arena class the session uses.
@@ -38,45 +45,206 @@ import java.util.Optional;
  */
 public class SessionManager<S extends Session<A, M>, A extends Arena<A, M>, M extends Map<M>> {
 
-    private final @NotNull List<S> sessionList;
+    private final @NotNull java.util.Map<String, S> sessionMap;
+    private final @NotNull java.util.Map<UUID, S> groupIndex;
+    private final @NotNull java.util.Map<UUID, S> memberIndex;
+    private final @NotNull java.util.Map<S, IndexEntry> indexEntryMap;
+    private final @NotNull SessionScheduler scheduler;
 
     public SessionManager() {
-        this.sessionList = new ArrayList<>();
+        this(10);
+    }
+
+    /**
+     * Used to create a new session manager.
+     *
+     * @param tickBudgetMillis The maximum amount of milliseconds the
+     *                         {@link SessionScheduler} can use each tick.
+     */
+    public SessionManager(long tickBudgetMillis) {
+        this.sessionMap = new ConcurrentHashMap<>();
+        this.groupIndex = new ConcurrentHashMap<>();
+        this.memberIndex = new ConcurrentHashMap<>();
+        this.indexEntryMap = new ConcurrentHashMap<>();
+        this.scheduler = new SessionScheduler(tickBudgetMillis);
+    }
+
+    /**
+     * Used to get the scheduler that runs the
+     * tick handlers of this plugin's sessions.
+     *
+     * @return The instance of the session scheduler.
+     */
+    public @NotNull SessionScheduler getScheduler() {
+        return this.scheduler;
     }
 
+    /**
+     * Used to get a session from its arena identifier.
+     *
+     * @param arenaIdentifier The arena identifier.
+     * @return The optional session.
+     */
     public @NotNull Optional<S> getSession(@NotNull String arenaIdentifier) {
-        for (S session : this.sessionList) {
-            if (session.getArenaIdentifier().equals(arenaIdentifier)) {
-                return Optional.of(session);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(this.sessionMap.get(arenaIdentifier));
+    }
+
+    /**
+     * Used to get the session a group is playing in.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @return The optional session.
+     */
+    public @NotNull Optional<S> getSessionFromGroup(@NotNull UUID groupIdentifier) {
+        return Optional.ofNullable(this.groupIndex.get(groupIdentifier));
+    }
+
+    /**
+     * Used to get the session a player is playing in.
+     *
+     * @param memberUuid The player's uuid.
+     * @return The optional session.
+     */
+    public @NotNull Optional<S> getSessionFromMember(@NotNull UUID memberUuid) {
+        return Optional.ofNullable(this.memberIndex.get(memberUuid));
+    }
+
+    /**
+     * Used to get a copy of the list of registered sessions.
+     *
+     * @return The list of sessions.
+     */
+    public @NotNull List<S> getSessionList() {
+        return new ArrayList<>(this.sessionMap.values());
+    }
+
+    /**
+     * Used to get the amount of registered sessions.
+     *
+     * @return The amount of sessions.
+     */
+    public int getSessionAmount() {
+        return this.sessionMap.size();
     }
 
     public @NotNull SessionManager<S, A, M> registerSession(@NotNull S session) {
-        this.sessionList.add(session);
+        final S previous = this.sessionMap.put(session.getArenaIdentifier(), session);
+
+        // Remove the session that was replaced,
+        // so its tick handlers no longer run.
+        if (previous != null && previous != session) {
+            this.removeFromIndexes(previous);
+            this.scheduler.unregister(previous);
+        }
+
+        // Index the session by its group and members.
+        // The indexed members are stored, so exactly
+        // these members are removed from the index later.
+        final IndexEntry indexEntry = new IndexEntry(session.getGroup().getIdentifier(), ConcurrentHashMap.newKeySet());
+        this.indexEntryMap.put(session, indexEntry);
+        this.groupIndex.put(indexEntry.groupIdentifier(), session);
+        for (UUID memberUuid : session.getGroup().getMemberUuids()) {
+            this.addMember(session, memberUuid);
+        }
+        return this;
+    }
+
+    /**
+     * Used to index a member that joined a session.
+     * <p>
+     * This should be called when a member is added
+     * to the session's group during the session.
+     *
+     * @param session    The instance of the session.
+     * @param memberUuid The member's uuid.
+     * @return This instance.
+     */
+    public @NotNull SessionManager<S, A, M> addMember(@NotNull S session, @NotNull UUID memberUuid) {
+        final IndexEntry indexEntry = this.indexEntryMap.get(session);
+        if (indexEntry == null) return this;
+
+        indexEntry.memberUuids().add(memberUuid);
+        this.memberIndex.put(memberUuid, session);
+        return this;
+    }
+
+    /**
+     * Used to remove a member that left a session from the index.
+     * <p>
+     * This should be called when a member is removed
+     * from the session's group during the session.
+     *
+     * @param session    The instance of the session.
+     * @param memberUuid The member's uuid.
+     * @return This instance.
+     */
+    public @NotNull SessionManager<S, A, M> removeMember(@NotNull S session, @NotNull UUID memberUuid) {
+        final IndexEntry indexEntry = this.indexEntryMap.get(session);
+        if (indexEntry == null) return this;
+
+        indexEntry.memberUuids().remove(memberUuid);
+        this.memberIndex.remove(memberUuid, session);
         return this;
     }
 
     public @NotNull SessionManager<S, A, M> unregisterSession(@NotNull S session) {
-        this.sessionList.remove(session);
+        if (this.sessionMap.remove(session.getArenaIdentifier(), session)) {
+            this.removeFromIndexes(session);
+            this.scheduler.unregisterSession(session.getArenaIdentifier());
+        }
         return this;
     }
 
     public @NotNull SessionManager<S, A, M> unregisterSession(@NotNull String arenaIdentifier) {
-        this.sessionList.removeIf(session -> session.getArenaIdentifier().equals(arenaIdentifier));
+        final S session = this.sessionMap.remove(arenaIdentifier);
+        if (session != null) this.removeFromIndexes(session);
+        this.scheduler.unregisterSession(arenaIdentifier);
         return this;
     }
 
     public @NotNull SessionManager<S, A, M> stopAllSessions() {
-        for (S session : this.sessionList) {
+        for (S session : this.sessionMap.values()) {
             session.stopAllComponents();
         }
         return this;
     }
 
     public @NotNull SessionManager<S, A, M> removeAllSessions() {
-        this.sessionList.clear();
+        this.sessionMap.clear();
+        this.groupIndex.clear();
+        this.memberIndex.clear();
+        this.indexEntryMap.clear();
+        this.scheduler.clear();
         return this;
     }
+
+    /**
+     * Used to remove a session from the group and member indexes.
+     * <p>
+     * Entries are only removed if they still point to
+     * this session, so a newer session is not removed.
+     * The members that were indexed are removed, even if
+     * the session's group has changed since.
+     *
+     * @param session The instance of the session.
+     */
+    private void removeFromIndexes(@NotNull S session) {
+        final IndexEntry indexEntry = this.indexEntryMap.remove(session);
+        if (indexEntry == null) return;
+
+        this.groupIndex.remove(indexEntry.groupIdentifier(), session);
+        for (UUID memberUuid : indexEntry.memberUuids()) {
+            this.memberIndex.remove(memberUuid, session);
+        }
+    }
+
+    /**
+     * Represents the group and members
+     * a session was indexed with.
+     *
+     * @param groupIdentifier The group's identifier.
+     * @param memberUuids     The indexed member uuids.
+     */
+    private record IndexEntry(@NotNull UUID groupIdentifier, @NotNull Set<UUID> memberUuids) {
+    }
 }
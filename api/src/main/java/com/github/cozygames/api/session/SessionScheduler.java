@@ -0,0 +1,422 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.session;
+
+import com.github.cozygames.api.CozyGamesProvider;
+import com.github.cozygames.api.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the scheduler that runs the tick
+ * handlers of every session in a plugin.
+ * <p>
+ * Instead of each {@link SessionComponent} scheduling its own
+ * repeating task, components register tick handlers with a period.
+ * Each tick, the platform calls {@link SessionScheduler#tick()}, and
+ * due handlers are run session by session until the tick's time
+ * budget is used. The remaining handlers stay due and are run
+ * first on the next tick, so every session gets a turn.
+ * <p>
+ * The time used by each session and component is recorded, and
+ * can be reported using {@link SessionScheduler#logReport(Logger)}.
+ * If a handler throws an exception, it is logged and counted,
+ * and the remaining handlers are still run.
+ * This should only be ticked on the main thread.
+ */
+public class SessionScheduler {
+
+    /**
+     * The amount of failures of a single handler
+     * between each logged failure.
+     */
+    private static final int FAILURE_LOG_INTERVAL = 100;
+
+    private final long budgetNanos;
+    private final @NotNull LinkedHashMap<String, List<TickHandler>> sessionHandlerMap;
+
+    private long currentTick;
+    private int sessionCursor;
+    private long overrunAmount;
+    private long deferredAmount;
+    private long failureAmount;
+
+    /**
+     * Represents a registered tick handler.
+     */
+    private static class TickHandler {
+
+        private final @NotNull SessionComponent<?, ?> component;
+        private final @NotNull Runnable runnable;
+        private final int period;
+
+        private long nextTick;
+        private final @NotNull Timings timings;
+
+        private TickHandler(@NotNull SessionComponent<?, ?> component, @NotNull Runnable runnable, int period, long nextTick) {
+            this.component = component;
+            this.runnable = runnable;
+            this.period = period;
+            this.nextTick = nextTick;
+            this.timings = new Timings();
+        }
+    }
+
+    /**
+     * Represents the time used by a session or component.
+     */
+    public static class Timings {
+
+        private long runAmount;
+        private long totalNanos;
+        private long maximumNanos;
+        private long failureAmount;
+
+        private void add(long nanos) {
+            this.runAmount++;
+            this.totalNanos += nanos;
+            this.maximumNanos = Math.max(this.maximumNanos, nanos);
+        }
+
+        private void add(@NotNull Timings timings) {
+            this.runAmount += timings.runAmount;
+            this.totalNanos += timings.totalNanos;
+            this.maximumNanos = Math.max(this.maximumNanos, timings.maximumNanos);
+            this.failureAmount += timings.failureAmount;
+        }
+
+        /**
+         * Used to get the amount of times the handlers have run.
+         *
+         * @return The run amount.
+         */
+        public long getRunAmount() {
+            return this.runAmount;
+        }
+
+        /**
+         * Used to get the total time used by the handlers.
+         *
+         * @return The total nanoseconds.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Used to get the longest time a single run took.
+         *
+         * @return The maximum nanoseconds.
+         */
+        public long getMaximumNanos() {
+            return this.maximumNanos;
+        }
+
+        /**
+         * Used to get the average time a single run took.
+         *
+         * @return The average nanoseconds.
+         */
+        public long getAverageNanos() {
+            if (this.runAmount == 0) return 0;
+            return this.totalNanos / this.runAmount;
+        }
+
+        /**
+         * Used to get the amount of times the
+         * handlers threw an exception.
+         *
+         * @return The failure amount.
+         */
+        public long getFailureAmount() {
+            return this.failureAmount;
+        }
+    }
+
+    /**
+     * Used to create a new session scheduler.
+     *
+     * @param budgetMillis The maximum amount of milliseconds the
+     *                     handlers can use each tick.
+     */
+    public SessionScheduler(long budgetMillis) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+        this.sessionHandlerMap = new LinkedHashMap<>();
+        this.currentTick = 0;
+        this.sessionCursor = 0;
+    }
+
+    /**
+     * Used to register a tick handler for a component.
+     * <p>
+     * The handler is first run after the period has passed.
+     * It is unregistered when the component's session is
+     * unregistered from the {@link SessionManager}.
+     *
+     * @param component The component the handler belongs to.
+     * @param period    The amount of ticks between each run.
+     * @param runnable  The handler to run.
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler register(@NotNull SessionComponent<?, ?> component, int period, @NotNull Runnable runnable) {
+        final int validPeriod = Math.max(1, period);
+        final String arenaIdentifier = component.getSession().getArenaIdentifier();
+
+        this.sessionHandlerMap.computeIfAbsent(arenaIdentifier, key -> new ArrayList<>())
+                .add(new TickHandler(component, runnable, validPeriod, this.currentTick + validPeriod));
+        return this;
+    }
+
+    /**
+     * Used to unregister every tick handler of a component.
+     * <p>
+     * This should be called in {@link SessionComponent#stop()}.
+     *
+     * @param component The instance of the component.
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler unregister(@NotNull SessionComponent<?, ?> component) {
+        final String arenaIdentifier = component.getSession().getArenaIdentifier();
+        final List<TickHandler> handlerList = this.sessionHandlerMap.get(arenaIdentifier);
+        if (handlerList == null) return this;
+
+        handlerList.removeIf(handler -> handler.component == component);
+        if (handlerList.isEmpty()) this.sessionHandlerMap.remove(arenaIdentifier);
+        return this;
+    }
+
+    /**
+     * Used to unregister the tick handlers that were
+     * registered by a session's components.
+     * <p>
+     * Handlers registered by another session with
+     * the same arena identifier are kept.
+     *
+     * @param session The instance of the session.
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler unregister(@NotNull Session<?, ?> session) {
+        final String arenaIdentifier = session.getArenaIdentifier();
+        final List<TickHandler> handlerList = this.sessionHandlerMap.get(arenaIdentifier);
+        if (handlerList == null) return this;
+
+        handlerList.removeIf(handler -> handler.component.getSession() == session);
+        if (handlerList.isEmpty()) this.sessionHandlerMap.remove(arenaIdentifier);
+        return this;
+    }
+
+    /**
+     * Used to unregister every tick handler of a session.
+     *
+     * @param arenaIdentifier The session's arena identifier.
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler unregisterSession(@NotNull String arenaIdentifier) {
+        this.sessionHandlerMap.remove(arenaIdentifier);
+        return this;
+    }
+
+    /**
+     * Used to unregister every tick handler.
+     *
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler clear() {
+        this.sessionHandlerMap.clear();
+        this.sessionCursor = 0;
+        return this;
+    }
+
+    /**
+     * Used to run the due tick handlers.
+     * <p>
+     * This should be called once every tick by the platform.
+     *
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler tick() {
+        this.currentTick++;
+        if (this.sessionHandlerMap.isEmpty()) return this;
+
+        final List<List<TickHandler>> sessionList = new ArrayList<>(this.sessionHandlerMap.values());
+        final int sessionAmount = sessionList.size();
+        final long deadline = System.nanoTime() + this.budgetNanos;
+
+        // Start from the session after the last one that
+        // had to wait, so every session gets a turn.
+        final int startIndex = this.sessionCursor % sessionAmount;
+        for (int offset = 0; offset < sessionAmount; offset++) {
+            final int index = (startIndex + offset) % sessionAmount;
+
+            // Check if the budget has been used.
+            if (System.nanoTime() >= deadline) {
+                this.overrunAmount++;
+                this.deferredAmount += sessionAmount - offset;
+                this.sessionCursor = index;
+                return this;
+            }
+
+            for (TickHandler handler : new ArrayList<>(sessionList.get(index))) {
+                if (handler.nextTick > this.currentTick) continue;
+                this.run(handler);
+            }
+        }
+
+        this.sessionCursor = startIndex + 1;
+        return this;
+    }
+
+    /**
+     * Used to get the amount of ticks the budget
+     * was used before every session had a turn.
+     *
+     * @return The amount of overruns.
+     */
+    public synchronized long getOverrunAmount() {
+        return this.overrunAmount;
+    }
+
+    /**
+     * Used to get the amount of times a session
+     * had to wait for the next tick.
+     *
+     * @return The amount of deferred sessions.
+     */
+    public synchronized long getDeferredAmount() {
+        return this.deferredAmount;
+    }
+
+    /**
+     * Used to get the amount of times a
+     * handler threw an exception.
+     *
+     * @return The amount of failures.
+     */
+    public synchronized long getFailureAmount() {
+        return this.failureAmount;
+    }
+
+    /**
+     * Used to get the time used by a session's handlers.
+     *
+     * @param arenaIdentifier The session's arena identifier.
+     * @return The optional timings.
+     * Empty if the session has no handlers.
+     */
+    public synchronized @NotNull Optional<Timings> getSessionTimings(@NotNull String arenaIdentifier) {
+        final List<TickHandler> handlerList = this.sessionHandlerMap.get(arenaIdentifier);
+        if (handlerList == null) return Optional.empty();
+
+        final Timings timings = new Timings();
+        for (TickHandler handler : handlerList) {
+            timings.add(handler.timings);
+        }
+        return Optional.of(timings);
+    }
+
+    /**
+     * Used to get the time used by a component's handlers.
+     *
+     * @param component The instance of the component.
+     * @return The optional timings.
+     * Empty if the component has no handlers.
+     */
+    public synchronized @NotNull Optional<Timings> getComponentTimings(@NotNull SessionComponent<?, ?> component) {
+        final List<TickHandler> handlerList = this.sessionHandlerMap.get(component.getSession().getArenaIdentifier());
+        if (handlerList == null) return Optional.empty();
+
+        Timings timings = null;
+        for (TickHandler handler : handlerList) {
+            if (handler.component != component) continue;
+            if (timings == null) timings = new Timings();
+            timings.add(handler.timings);
+        }
+        return Optional.ofNullable(timings);
+    }
+
+    /**
+     * Used to log the time used by each session
+     * and component, slowest first.
+     *
+     * @param logger The logger to log with.
+     * @return This instance.
+     */
+    public synchronized @NotNull SessionScheduler logReport(@NotNull Logger logger) {
+        logger.log("Session ticks: &f" + this.currentTick
+                + "&7, overruns: &f" + this.overrunAmount
+                + "&7, deferred sessions: &f" + this.deferredAmount
+                + "&7, failures: &f" + this.failureAmount);
+
+        final List<Map.Entry<String, List<TickHandler>>> entryList = new ArrayList<>(this.sessionHandlerMap.entrySet());
+        entryList.sort(Comparator.comparingLong(entry -> -this.getSessionTimings(entry.getKey()).orElseThrow().getTotalNanos()));
+
+        for (Map.Entry<String, List<TickHandler>> entry : entryList) {
+            final Timings sessionTimings = this.getSessionTimings(entry.getKey()).orElseThrow();
+            logger.log("&f" + entry.getKey() + " &7average: &f" + sessionTimings.getAverageNanos() / 1000 + "us"
+                    + " &7maximum: &f" + sessionTimings.getMaximumNanos() / 1000 + "us");
+
+            for (TickHandler handler : entry.getValue()) {
+                logger.log("&7  - &f" + handler.component.getClass().getSimpleName()
+                        + " &7every &f" + handler.period + "&7 ticks, average: &f" + handler.timings.getAverageNanos() / 1000 + "us"
+                        + " &7maximum: &f" + handler.timings.getMaximumNanos() / 1000 + "us"
+                        + " &7failures: &f" + handler.timings.getFailureAmount());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Used to run a handler and record its time.
+     * <p>
+     * If the handler throws an exception, it is counted
+     * and logged, so the other handlers still run.
+     *
+     * @param handler The handler to run.
+     */
+    private void run(@NotNull TickHandler handler) {
+        handler.nextTick = this.currentTick + handler.period;
+
+        final long startTime = System.nanoTime();
+        try {
+            handler.runnable.run();
+        } catch (Exception exception) {
+            this.failureAmount++;
+            handler.timings.failureAmount++;
+
+            // Only log some failures, as the handler
+            // may fail every time it is run.
+            if (handler.timings.failureAmount % FAILURE_LOG_INTERVAL == 1) {
+                CozyGamesProvider.get().getLogger().warn("Unable to run the tick handler of &f"
+                        + handler.component.getClass().getSimpleName()
+                        + "&7 in the session &f" + handler.component.getSession().getArenaIdentifier()
+                        + "&7. Failures: &f" + handler.timings.failureAmount + "&7. " + exception.getMessage()
+                );
+            }
+        } finally {
+            handler.timings.add(System.nanoTime() - startTime);
+        }
+    }
+}
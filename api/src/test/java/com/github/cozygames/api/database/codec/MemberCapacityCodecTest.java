@@ -0,0 +1,52 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.database.codec;
+
+import com.github.cozygames.api.member.MemberCapacity;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the {@link MemberCapacityCodec}.
+ */
+public class MemberCapacityCodecTest {
+
+    @Test
+    public void testEncodeAndDecode() {
+        final MemberCapacity capacity = new MemberCapacity(List.of(2, 4, 64, 130));
+
+        final String json = RecordCodecs.MEMBER_CAPACITY.encode(capacity);
+        assertEquals(capacity, RecordCodecs.MEMBER_CAPACITY.decode(json));
+    }
+
+    @Test
+    public void testDecodeArrayFormat() {
+        final MemberCapacity capacity = RecordCodecs.MEMBER_CAPACITY.decode("[2, 4, 70]");
+        assertEquals(List.of(2, 4, 70), capacity.getPossibleCapacityList());
+    }
+
+    @Test
+    public void testDecodeEmptyArrayFormat() {
+        final MemberCapacity capacity = RecordCodecs.MEMBER_CAPACITY.decode("[]");
+        assertEquals(List.of(), capacity.getPossibleCapacityList());
+    }
+}
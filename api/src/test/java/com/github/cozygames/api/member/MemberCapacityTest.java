@@ -0,0 +1,79 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.member;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link MemberCapacity}.
+ */
+public class MemberCapacityTest {
+
+    @Test
+    public void testIsPossibleAboveOneWord() {
+        final MemberCapacity capacity = new MemberCapacity(List.of(3, 64, 100));
+
+        assertTrue(capacity.isPossible(3));
+        assertTrue(capacity.isPossible(64));
+        assertTrue(capacity.isPossible(100));
+
+        assertFalse(capacity.isPossible(0));
+        assertFalse(capacity.isPossible(63));
+        assertFalse(capacity.isPossible(65));
+        assertFalse(capacity.isPossible(128));
+        assertFalse(capacity.isPossible(-1));
+
+        assertEquals(List.of(3, 64, 100), capacity.getPossibleCapacityList());
+    }
+
+    @Test
+    public void testContainsAboveOneWord() {
+        final MemberCapacity capacity = new MemberCapacity(List.of(3, 64, 100));
+
+        assertTrue(capacity.contains(new MemberCapacity(List.of(64))));
+        assertTrue(capacity.contains(new MemberCapacity(List.of(3, 100))));
+        assertTrue(capacity.contains(new MemberCapacity()));
+
+        assertFalse(capacity.contains(new MemberCapacity(List.of(65))));
+        assertFalse(capacity.contains(new MemberCapacity(List.of(3, 200))));
+        assertFalse(new MemberCapacity(List.of(3)).contains(capacity));
+    }
+
+    @Test
+    public void testRemoveAboveOneWord() {
+        final MemberCapacity capacity = new MemberCapacity(List.of(3, 64));
+        capacity.removePossibleCapacity(64);
+        capacity.removePossibleCapacity(500);
+
+        assertFalse(capacity.isPossible(64));
+        assertEquals(new MemberCapacity(List.of(3)), capacity);
+        assertEquals(new MemberCapacity(List.of(3)).hashCode(), capacity.hashCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNegativeCapacity() {
+        new MemberCapacity().addPossibleCapacity(-1);
+    }
+}
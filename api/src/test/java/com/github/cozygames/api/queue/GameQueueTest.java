@@ -0,0 +1,128 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.api.queue;
+
+import com.github.cozygames.api.group.Group;
+import com.github.cozygames.api.member.Member;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link GameQueue}.
+ */
+public class GameQueueTest {
+
+    private static final String GAME_IDENTIFIER = "game";
+
+    @Test
+    public void testMatchSkipsRemovedGroups() {
+        final GameQueue queue = new GameQueue(GAME_IDENTIFIER);
+        queue.setCapacities(List.of(2), 0);
+
+        final Group removed = createGroup(1);
+        final Group waiting = createGroup(1);
+        final Group joining = createGroup(1);
+
+        // The removed group is left in its bucket,
+        // in front of the group that is still waiting.
+        assertFalse(queue.add(removed).isPresent());
+        assertTrue(queue.remove(removed.getIdentifier()));
+        assertFalse(queue.add(waiting).isPresent());
+
+        final Optional<List<Group>> match = queue.add(joining);
+        assertTrue(match.isPresent());
+        assertEquals(List.of(joining, waiting), match.get());
+        assertEquals(0, queue.getGroupAmount());
+        assertEquals(0, queue.getMemberAmount());
+    }
+
+    @Test
+    public void testMatchSkipsReplacedEntries() {
+        final GameQueue queue = new GameQueue(GAME_IDENTIFIER);
+        queue.setCapacities(List.of(2), 0);
+
+        final Group group = createGroup(1);
+        final Group joining = createGroup(1);
+
+        // Adding the group again leaves its old
+        // entry in the bucket before the new one.
+        assertFalse(queue.add(group).isPresent());
+        assertTrue(queue.remove(group.getIdentifier()));
+        assertFalse(queue.add(group).isPresent());
+
+        final Optional<List<Group>> match = queue.add(joining);
+        assertTrue(match.isPresent());
+        assertEquals(List.of(joining, group), match.get());
+        assertEquals(0, queue.getGroupAmount());
+    }
+
+    @Test
+    public void testAddFirstKeepsOrder() {
+        final GameQueue queue = new GameQueue(GAME_IDENTIFIER);
+
+        final Group waiting = createGroup(2);
+        final Group first = createGroup(2);
+        final Group second = createGroup(2);
+
+        // No capacities are set, so nothing is matched.
+        assertFalse(queue.add(waiting).isPresent());
+        queue.addFirst(List.of(first, second));
+        assertEquals(3, queue.getGroupAmount());
+        assertEquals(6, queue.getMemberAmount());
+
+        // The requeued groups are in front of the waiting group,
+        // and keep the order they were given in.
+        queue.setCapacities(List.of(4), 0);
+        final List<List<Group>> matchList = queue.matchAll();
+
+        assertEquals(1, matchList.size());
+        assertEquals(List.of(waiting, first), matchList.get(0));
+        assertEquals(List.of(second), queue.getGroupList());
+    }
+
+    @Test
+    public void testAddFirstSkipsWaitingAndEmptyGroups() {
+        final GameQueue queue = new GameQueue(GAME_IDENTIFIER);
+
+        final Group waiting = createGroup(1);
+        final Group empty = createGroup(0);
+
+        queue.add(waiting);
+        queue.addFirst(List.of(waiting, empty));
+
+        assertEquals(List.of(waiting), queue.getGroupList());
+        assertEquals(1, queue.getMemberAmount());
+    }
+
+    private static @NotNull Group createGroup(int size) {
+        final Group group = new Group(UUID.randomUUID(), GAME_IDENTIFIER);
+        for (int index = 0; index < size; index++) {
+            group.addMember(new Member(UUID.randomUUID(), "Player" + index));
+        }
+        return group;
+    }
+}
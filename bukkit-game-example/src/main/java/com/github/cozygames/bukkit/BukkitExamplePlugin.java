@@ -88,6 +88,20 @@ public final class BukkitExamplePlugin extends CozyGamesBukkitPlugin<
         return ExampleSession::new;
     }
 
+    @Override
+    public int getArenaPoolSize() {
+
+        // Keep one arena ready for each map.
+        return 1;
+    }
+
+    @Override
+    public int getArenaGridSpacing() {
+
+        // Place the arenas of each map in a shared world.
+        return 256;
+    }
+
     @Override
     public void onEnable() {
 
@@ -35,4 +35,11 @@ public class ExampleArena extends LocalBukkitArena<ExampleSession, ExampleArena,
     public @NotNull CozyGamesPlugin<ExampleSession, ExampleArena, ExampleMap, ?> getPlugin() {
         return BukkitExamplePlugin.getInstance();
     }
+
+    @Override
+    public boolean isRollbackEnabled() {
+
+        // Reset the arena after each game instead of deleting the world.
+        return true;
+    }
 }
@@ -41,7 +41,7 @@ public class ExampleSession extends Session<ExampleArena, ExampleMap> {
         this.registerComponent(new ExampleScoreboardComponent(this));
 
         // Activate first components.
-        this.getComponent(ExampleScoreboardComponent.class).start();
+        this.getComponent(ExampleScoreboardComponent.KEY).start();
     }
 
     @Override
@@ -20,18 +20,19 @@ package com.github.cozygames.bukkit.session.component;
 
 import com.github.cozygames.api.session.Session;
 import com.github.cozygames.api.session.SessionComponent;
+import com.github.cozygames.api.session.SessionComponentKey;
 import com.github.cozygames.bukkit.arena.ExampleArena;
 import com.github.cozygames.bukkit.map.ExampleMap;
 import com.github.cozygames.bukkit.session.ExampleSession;
 import com.github.cozyplugins.cozylibrary.scoreboard.Scoreboard;
-import com.github.cozyplugins.cozylibrary.task.TaskContainer;
 import com.github.cozyplugins.cozylibrary.user.PlayerUser;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-public class ExampleScoreboardComponent extends TaskContainer implements SessionComponent<ExampleArena, ExampleMap> {
+public class ExampleScoreboardComponent implements SessionComponent<ExampleArena, ExampleMap> {
 
-    private static final @NotNull String SCOREBOARD_TASK_IDENTIFIER = "SCOREBOARD_TASK_IDENTIFIER";
+    public static final @NotNull SessionComponentKey<ExampleScoreboardComponent> KEY =
+            SessionComponentKey.of(ExampleScoreboardComponent.class);
 
     private final @NotNull ExampleSession session;
 
@@ -48,19 +49,19 @@ public class ExampleScoreboardComponent extends TaskContainer implements Session
     public void start() {
 
         // Update scoreboards every second.
-        this.runTaskLoop(SCOREBOARD_TASK_IDENTIFIER, () -> {
+        this.scheduleTick(20, () -> {
 
             // Loop though all the online members.
             for (Player player : this.getSession().getGroup().getMembersOnline(Player.class)) {
                 PlayerUser user = new PlayerUser(player);
                 user.setScoreboard(this.createCurrentScoreboard());
             }
-        }, 20);
+        });
     }
 
     @Override
     public void stop() {
-
+        this.cancelTicks();
     }
 
     public @NotNull Scoreboard createCurrentScoreboard() {
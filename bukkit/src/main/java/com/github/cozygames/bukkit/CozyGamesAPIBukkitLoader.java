@@ -20,15 +20,25 @@ package com.github.cozygames.bukkit;
 
 import com.github.cozygames.api.CozyGames;
 import com.github.cozygames.api.CozyGamesProvider;
+import com.github.cozygames.api.event.internal.member.MemberListTeleportEvent;
 import com.github.cozygames.api.event.internal.member.MemberTeleportEvent;
 import com.github.cozygames.api.implementation.CozyGamesBuilder;
+import com.github.cozygames.api.map.Map;
+import com.github.cozygames.api.schematic.Schematic;
 import com.github.cozygames.bukkit.listener.KerbEventListener;
+import com.github.cozygames.bukkit.monitor.TickRateMonitor;
+import com.github.cozygames.bukkit.worldedit.SchematicCache;
+import com.github.cozygames.bukkit.worldedit.WorldEditHelper;
 import com.github.cozyplugins.cozylibrary.CozyPlugin;
 import com.github.kerbity.kerb.client.listener.EventListener;
 import com.github.kerbity.kerb.packet.event.Priority;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents the bukkit plugin api loader.
@@ -36,13 +46,17 @@ import org.bukkit.plugin.java.JavaPlugin;
 public final class CozyGamesAPIBukkitLoader extends JavaPlugin {
 
     private CozyPlugin<CozyGamesAPIBukkitLoader> plugin;
+    private CozyGamesAPIBukkitPlugin apiPlugin;
+    private CozyGames api;
 
     @Override
     public void onEnable() {
         CozyGamesAPIBukkitPlugin plugin = new CozyGamesAPIBukkitPlugin(this);
+        this.apiPlugin = plugin;
 
         // Create a new instance of the api.
         CozyGames api = new CozyGamesBuilder(plugin).build();
+        this.api = api;
 
         // Register the instance in the bukkit service manager.
         Bukkit.getServicesManager().register(
@@ -55,13 +69,61 @@ public final class CozyGamesAPIBukkitLoader extends JavaPlugin {
         // Also register the instance in the provider.
         CozyGamesProvider.register(api);
 
+        // Set up the schematic cache.
+        WorldEditHelper.setSchematicCache(new SchematicCache(
+                api.getConnectionConfig().getInteger("schematic_cache.budget_megabytes", 256) * 1024L * 1024L
+        ));
+
+        // Finish deleting worlds that were pending
+        // when the server last stopped.
+        plugin.getWorldDeleter()
+                .setFilesPerSecond(api.getConnectionConfig().getInteger("world_deletion.files_per_second", 100))
+                .resume();
+
+        // Set the schematic paste budget.
+        WorldEditHelper.setPasteMillisPerTick(
+                api.getConnectionConfig().getInteger("schematic_paste.millis_per_tick", 10)
+        );
+
+        // Preload schematics once every mini-game
+        // plugin has registered its maps.
+        if (api.getConnectionConfig().getBoolean("schematic_cache.preload", true)) {
+            Bukkit.getScheduler().runTask(this, () -> this.preloadSchematics(api));
+        }
+
+        // Measure the ticks per second for the load reports.
+        Bukkit.getScheduler().runTaskTimer(
+                this,
+                plugin.getTickRateMonitor(),
+                TickRateMonitor.SAMPLE_TICKS,
+                TickRateMonitor.SAMPLE_TICKS
+        );
+
         // Register spigot events.
         this.getServer().getPluginManager().registerEvents(plugin.getTeleportManager(), this);
+        this.getServer().getPluginManager().registerEvents(plugin.getBlockChangeListener(), this);
+
+        // Set how long teleports wait for players to join.
+        // Expired teleports are removed every second.
+        plugin.getTeleportManager()
+                .setTimeToLiveMillis(api.getConnectionConfig().getInteger("teleport.time_to_live_millis", 30000))
+                .startSweeper(this, 20);
+
+        // Set how chunks are loaded before teleports.
+        plugin.getChunkPreloader()
+                .setRadius(api.getConnectionConfig().getInteger("chunk_preload.radius", 2))
+                .setChunksPerTick(api.getConnectionConfig().getInteger("chunk_preload.chunks_per_tick", 4))
+                .setTimeoutTicks(api.getConnectionConfig().getInteger("chunk_preload.timeout_seconds", 30) * 20L);
 
         // Register local kerb listeners.
+        final KerbEventListener kerbEventListener = new KerbEventListener(api, this, plugin.getTeleportManager());
         api.getKerbClient().registerListener(
                 Priority.MEDIUM,
-                (EventListener<MemberTeleportEvent>) event -> new KerbEventListener().onMemberTeleportEvent(event)
+                (EventListener<MemberTeleportEvent>) kerbEventListener::onMemberTeleportEvent
+        );
+        api.getKerbClient().registerListener(
+                Priority.MEDIUM,
+                (EventListener<MemberListTeleportEvent>) kerbEventListener::onMemberListTeleportEvent
         );
 
         // Create the api plugin.
@@ -72,5 +134,43 @@ public final class CozyGamesAPIBukkitLoader extends JavaPlugin {
     @Override
     public void onDisable() {
         this.plugin.disable();
+
+        // Stop deleting worlds. Remaining worlds
+        // are deleted when the server starts again.
+        this.apiPlugin.getWorldDeleter().shutdown();
+        this.apiPlugin.getWorldCloner().shutdown();
+        this.apiPlugin.getTeleportManager().stopSweeper();
+        this.apiPlugin.getChunkPreloader().releaseAll();
+
+        // Stop the api's background threads.
+        this.api.shutdown();
+    }
+
+    /**
+     * Used to read the schematics used by the maps
+     * registered on this server into the schematic cache.
+     * <p>
+     * The files are read asynchronously.
+     *
+     * @param api The instance of the api.
+     */
+    private void preloadSchematics(@NotNull CozyGames api) {
+        if (WorldEditHelper.getWorldEditPlugin().isEmpty()) return;
+
+        final List<String> identifierList = api.getMapManager().getMapList().stream()
+                .filter(map -> map.getServerName().equals(api.getServerName()))
+                .map(Map::getSchematic)
+                .flatMap(Optional::stream)
+                .map(Schematic::getIdentifier)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+
+        if (identifierList.isEmpty()) return;
+
+        Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
+            final int amount = WorldEditHelper.getSchematicCache().preload(api.getLogger(), identifierList);
+            api.getLogger().log("Preloaded &f" + amount + "&7 schematics.");
+        });
     }
 }
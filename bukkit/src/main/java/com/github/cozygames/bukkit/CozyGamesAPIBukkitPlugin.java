@@ -23,7 +23,12 @@ import com.github.cozygames.api.logger.LoggerAdapter;
 import com.github.cozygames.api.member.PlayerAdapter;
 import com.github.cozygames.api.plugin.CozyGamesAPIPlugin;
 import com.github.cozygames.bukkit.adapter.BukkitPlayerAdapter;
+import com.github.cozygames.bukkit.monitor.TickRateMonitor;
+import com.github.cozygames.bukkit.rollback.BlockChangeListener;
+import com.github.cozygames.bukkit.teleport.ChunkPreloader;
 import com.github.cozygames.bukkit.teleport.TeleportManager;
+import com.github.cozygames.bukkit.world.WorldCloner;
+import com.github.cozygames.bukkit.world.WorldDeleter;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -33,6 +38,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * The bukkit plugin api implementation.
@@ -40,7 +46,12 @@ import java.util.UUID;
 public class CozyGamesAPIBukkitPlugin implements CozyGamesAPIPlugin {
 
     private final @NotNull CozyGamesAPIBukkitLoader loader;
+    private final @NotNull ChunkPreloader chunkPreloader;
     private final @NotNull TeleportManager teleportManager;
+    private final @NotNull WorldDeleter worldDeleter;
+    private final @NotNull WorldCloner worldCloner;
+    private final @NotNull BlockChangeListener blockChangeListener;
+    private final @NotNull TickRateMonitor tickRateMonitor;
 
     /**
      * Used to create a new bukkit api implementation.
@@ -50,7 +61,16 @@ public class CozyGamesAPIBukkitPlugin implements CozyGamesAPIPlugin {
     @ApiStatus.Internal
     public CozyGamesAPIBukkitPlugin(@NotNull CozyGamesAPIBukkitLoader loader) {
         this.loader = loader;
-        this.teleportManager = new TeleportManager();
+        this.chunkPreloader = new ChunkPreloader(loader, 2, 4, 600);
+        this.teleportManager = new TeleportManager(30000, this.chunkPreloader);
+        this.worldDeleter = new WorldDeleter(
+                this.getLogger(),
+                new File(loader.getDataFolder(), "pending_world_deletions.txt"),
+                100
+        );
+        this.worldCloner = new WorldCloner(this.getLogger());
+        this.blockChangeListener = new BlockChangeListener();
+        this.tickRateMonitor = new TickRateMonitor();
     }
 
     @Override
@@ -101,6 +121,16 @@ public class CozyGamesAPIBukkitPlugin implements CozyGamesAPIPlugin {
                 .contains(playerUuid);
     }
 
+    @Override
+    public @NotNull Executor getMainThreadExecutor() {
+        return runnable -> Bukkit.getScheduler().runTask(this.loader, runnable);
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        return this.tickRateMonitor.getTicksPerSecond();
+    }
+
     /**
      * Used to get the instance of the teleport manager.
      *
@@ -109,4 +139,60 @@ public class CozyGamesAPIBukkitPlugin implements CozyGamesAPIPlugin {
     public @NotNull TeleportManager getTeleportManager() {
         return this.teleportManager;
     }
+
+    /**
+     * Used to get the instance of the chunk preloader.
+     * <p>
+     * This is used to load the chunks around an arena's
+     * spawn point before its group is teleported.
+     *
+     * @return The instance of the chunk preloader.
+     */
+    public @NotNull ChunkPreloader getChunkPreloader() {
+        return this.chunkPreloader;
+    }
+
+    /**
+     * Used to get the instance of the world deleter.
+     * <p>
+     * This should be used to delete arena worlds
+     * without blocking the main thread.
+     *
+     * @return The instance of the world deleter.
+     */
+    public @NotNull WorldDeleter getWorldDeleter() {
+        return this.worldDeleter;
+    }
+
+    /**
+     * Used to get the instance of the world cloner.
+     * <p>
+     * This is used to create arena worlds from template worlds.
+     *
+     * @return The instance of the world cloner.
+     */
+    public @NotNull WorldCloner getWorldCloner() {
+        return this.worldCloner;
+    }
+
+    /**
+     * Used to get the instance of the block change listener.
+     * <p>
+     * Arenas register their block change recorders
+     * here so they can be rolled back.
+     *
+     * @return The instance of the block change listener.
+     */
+    public @NotNull BlockChangeListener getBlockChangeListener() {
+        return this.blockChangeListener;
+    }
+
+    /**
+     * Used to get the instance of the tick rate monitor.
+     *
+     * @return The instance of the tick rate monitor.
+     */
+    public @NotNull TickRateMonitor getTickRateMonitor() {
+        return this.tickRateMonitor;
+    }
 }
@@ -19,17 +19,36 @@
 package com.github.cozygames.bukkit.arena;
 
 import com.github.cozygames.api.arena.Arena;
+import com.github.cozygames.api.arena.ArenaGrid;
 import com.github.cozygames.api.arena.LocalArena;
+import com.github.cozygames.api.location.Position;
+import com.github.cozygames.api.location.Vector;
 import com.github.cozygames.api.map.Map;
+import com.github.cozygames.api.schematic.Schematic;
 import com.github.cozygames.api.session.Session;
+import com.github.cozygames.bukkit.CozyGamesAPIBukkitPlugin;
 import com.github.cozygames.bukkit.adapter.BukkitPositionConverter;
+import com.github.cozygames.bukkit.rollback.BlockChangeRecorder;
+import com.github.cozygames.bukkit.worldedit.WorldEditHelper;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Represents a bukkit implementation of a local arena.
  * <p>
@@ -47,52 +66,362 @@ public abstract class LocalBukkitArena<S extends Session<A, M>, A extends Arena<
     public LocalBukkitArena(@NotNull String mapIdentifier, @NotNull String worldName) {
         super(mapIdentifier, worldName);
 
-        this.spawnPoint = this.getMap()
-                .getSpawnPoint().orElseThrow()
+        this.spawnPoint = this.getSpawnPosition()
                 .getLocation(new BukkitPositionConverter(), worldName);
     }
 
     public LocalBukkitArena(@NotNull String identifier) {
         super(identifier);
 
-        this.spawnPoint = this.getMap()
-                .getSpawnPoint().orElseThrow()
+        this.spawnPoint = this.getSpawnPosition()
                 .getLocation(new BukkitPositionConverter(), this.getWorldName());
     }
 
+    /**
+     * Used to create the world if it doesn't
+     * exist on the server.
+     * <p>
+     * If the map has a {@link LocalBukkitArena#getTemplateFolder()},
+     * the template is cloned on this thread and the arena is
+     * marked as built. Otherwise, an empty world is created.
+     *
+     * @return This instance.
+     */
     @Override
     public @NotNull A createWorld() {
 
         // Check if the world already exists.
-        if (Bukkit.getWorlds().stream()
-                .map(World::getName)
-                .toList()
-                .contains(this.getWorldName())) {
+        if (this.isWorldLoaded()) return (A) this;
 
+        // Check if the world should be cloned from a template.
+        final File template = this.getTemplateFolder().orElse(null);
+        if (template != null) {
+            try {
+                this.getApiPlugin().getWorldCloner().clone(template.toPath(), this.getWorldFolder().toPath());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+
+            this.loadWorld();
+            this.setBuilt(true);
             return (A) this;
         }
 
         // Create the world.
-        Bukkit.createWorld(new WorldCreator(this.getWorldName()).generator(new ChunkGenerator() {
-        }));
+        this.loadWorld();
+        return (A) this;
+    }
+
+    /**
+     * Used to create the world if it doesn't
+     * exist on the server.
+     * <p>
+     * If the map has a {@link LocalBukkitArena#getTemplateFolder()},
+     * the template is cloned on a background thread and then
+     * loaded on the main thread. The arena is marked as built.
+     *
+     * @return The future that completes when the world is loaded.
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> createWorldAsync() {
+
+        // Check if the world already exists.
+        if (this.isWorldLoaded()) return CompletableFuture.completedFuture(null);
+
+        // Check if the world should be cloned from a template.
+        final File template = this.getTemplateFolder().orElse(null);
+        if (template == null) return super.createWorldAsync();
+
+        return this.getApiPlugin().getWorldCloner()
+                .cloneAsync(template.toPath(), this.getWorldFolder().toPath())
+                .thenRunAsync(() -> {
+                    this.loadWorld();
+                    this.setBuilt(true);
+                }, this.getApi().getMainThreadExecutor());
+    }
+
+    /**
+     * Used to get the template world folder for this arena's map.
+     * <p>
+     * Templates are stored in the mini-game plugin's data folder
+     * under {@code templates/<map_name>}. A template is a world
+     * folder that already contains the built map, so it can be
+     * copied instead of pasting the map's schematic.
+     * <p>
+     * Templates are not used for arenas in an
+     * {@link com.github.cozygames.api.arena.ArenaGrid},
+     * as the world is shared with other arenas.
+     *
+     * @return The optional template folder.
+     */
+    public @NotNull Optional<File> getTemplateFolder() {
+        if (this.getSlot().isPresent()) return Optional.empty();
+
+        final File folder = new File(this.getPlugin().getDataFolder(), "templates/" + Map.getName(this.getMapIdentifier()));
+        if (!folder.isDirectory()) return Optional.empty();
+        return Optional.of(folder);
+    }
+
+    /**
+     * Used to check if the blocks changed while the arena
+     * is active should be rolled back when it is deactivated.
+     * <p>
+     * When enabled, deactivated arenas are reset and returned
+     * to the {@link com.github.cozygames.api.arena.ArenaPool}
+     * instead of deleting their world. If the pool is full,
+     * the world is deleted as normal.
+     * <p>
+     * Blocks changed by the plugin without an event must be
+     * recorded using {@link LocalBukkitArena#recordBlockChange(Block)}.
+     * If the arena can't be fully reset, for example when an
+     * entity that was part of the map was removed, the world
+     * is deleted instead.
+     * <p>
+     * This can be overridden to enable rollback.
+     *
+     * @return True if rollback is enabled.
+     * Defaults to false.
+     */
+    public boolean isRollbackEnabled() {
+        return false;
+    }
+
+    /**
+     * Used to record a block before it is changed by the plugin.
+     * <p>
+     * Changing a block using {@link Block#setType(Material)} or
+     * {@link Block#setBlockData(BlockData)} doesn't call an event,
+     * so the block must be recorded first to be rolled back.
+     * This does nothing if the arena isn't recording.
+     *
+     * @param block The instance of the block.
+     * @return This instance.
+     */
+    public @NotNull A recordBlockChange(@NotNull Block block) {
+        this.getApiPlugin().getBlockChangeListener()
+                .getRecorder(this.getIdentifier())
+                .ifPresent(recorder -> recorder.record(block));
+
+        return (A) this;
+    }
+
+    /**
+     * Used to get the maximum amount of milliseconds
+     * that can be used each tick to roll back blocks.
+     *
+     * @return The milliseconds per tick.
+     */
+    public long getRollbackMillisPerTick() {
+        return 5;
+    }
+
+    @Override
+    public @NotNull A activate(@NotNull UUID groupIdentifier) {
+
+        // Start recording block changes.
+        // The entities already in the arena are kept when rolling back.
+        if (this.isRollbackEnabled()) {
+            this.getApiPlugin().getBlockChangeListener().startRecording(this.createRecorder().recordEntities());
+        }
+
+        return super.activate(groupIdentifier);
+    }
+
+    @Override
+    public @NotNull A deactivate() {
+
+        // Check if the arena should be rolled back.
+        final BlockChangeRecorder recorder = this.getApiPlugin().getBlockChangeListener()
+                .stopRecording(this.getIdentifier())
+                .orElse(null);
+
+        if (recorder == null) return super.deactivate();
+
+        // Stop the session and roll back the changed blocks.
+        this.stopSession();
+        recorder.rollback(JavaPlugin.getProvidingPlugin(LocalBukkitArena.class), this.getRollbackMillisPerTick())
+                .handle((result, exception) -> {
+                    this.setGroupIdentifier(null);
+
+                    // Check if the arena could not be rolled back.
+                    // If so, the world can't be used again.
+                    if (exception != null) {
+                        this.getApi().getLogger().warn("Unable to roll back the arena &f" + this.getIdentifier() + "&7. " + exception.getMessage());
+                    } else if (this.getPlugin().getArenaPool().offer((A) this)) {
+
+                        // Return the arena to the pool, otherwise
+                        // there is no use for the world.
+                        this.save();
+                        return null;
+                    }
+
+                    this.deleteWorld();
+                    this.delete();
+                    return null;
+                })
+                .exceptionally(exception -> {
+                    this.getApi().getLogger().warn("Unable to remove the arena &f" + this.getIdentifier() + "&7 after rolling it back. " + exception.getMessage());
+                    return null;
+                });
+
         return (A) this;
     }
 
     @Override
     public @NotNull A deleteWorld() {
 
+        // Check if the world is still used by other arenas.
+        if (this.releaseSlot()) return (A) this;
+
+        // Check if the world is not loaded.
+        // Any folder left behind, such as a partly cloned template, is still deleted.
         final World world = Bukkit.getWorld(this.getWorldName());
-        if (world == null) return (A) this;
+        if (world == null) {
+            if (!this.getWorldFolder().exists()) return (A) this;
 
-        // Unload world.
-        Bukkit.unloadWorld(world, false);
+            this.getApiPlugin().getWorldDeleter().delete(this.getWorldFolder().toPath()).exceptionally(exception -> {
+                this.getApi().getLogger().warn("Unable to delete the world &f" + this.getWorldName() + "&7. " + exception.getMessage());
+                return null;
+            });
+            return (A) this;
+        }
 
-        // Delete world.
-        world.getWorldFolder().delete();
+        // Unload the world and delete its folder in the background.
+        this.getApiPlugin().getWorldDeleter().delete(world).exceptionally(exception -> {
+            this.getApi().getLogger().warn("Unable to delete the world &f" + this.getWorldName() + "&7. " + exception.getMessage());
+            return null;
+        });
 
         return (A) this;
     }
 
+    /**
+     * Used to paste the map's schematic into the arena's world.
+     * <p>
+     * The clipboard's origin is pasted at the arena's
+     * {@link LocalArena#getOrigin()}. The paste is spread
+     * over many ticks using an
+     * {@link com.github.cozygames.bukkit.worldedit.IncrementalPaste}.
+     * <p>
+     * If the map has no schematic, there is nothing
+     * to build and the future completes straight away.
+     *
+     * @return The future that completes when the map is built.
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> buildMap() {
+
+        // Check if the map has a schematic.
+        final String schematicIdentifier = this.getMap().getSchematic()
+                .flatMap(Schematic::getIdentifier)
+                .orElse(null);
+
+        if (schematicIdentifier == null) return super.buildMap();
+
+        // Check if the world has been created.
+        final World world = Bukkit.getWorld(this.getWorldName());
+        if (world == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "The world " + this.getWorldName() + " has not been created."
+            ));
+        }
+
+        // Get the clipboard.
+        final Clipboard clipboard = WorldEditHelper.getSchematic(this.getApi().getLogger(), schematicIdentifier).orElse(null);
+        if (clipboard == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "The schematic " + schematicIdentifier + " could not be found."
+            ));
+        }
+
+        // Paste the clipboard at the arena's origin.
+        final Location location = new Position(this.getOrigin())
+                .getLocation(new BukkitPositionConverter(), this.getWorldName());
+
+        return WorldEditHelper.pasteClipboardIncrementally(this.getApi().getLogger(), location, clipboard)
+                .getFuture()
+                .thenRun(() -> this.setBuilt(true));
+    }
+
+    /**
+     * Used to load the chunks around the spawn
+     * point before the group is teleported.
+     *
+     * @return The future that completes when the chunks are loaded.
+     */
+    @Override
+    protected @NotNull CompletableFuture<Void> prepareTeleport() {
+        final Location location = this.getSpawnPosition()
+                .getLocation(new BukkitPositionConverter(), this.getWorldName());
+
+        return this.getApiPlugin().getChunkPreloader().preload(
+                location,
+                this.getGroup().map(group -> group.getMembers().size()).orElse(0)
+        );
+    }
+
+    /**
+     * Used to create a block change recorder
+     * that covers this arena.
+     * <p>
+     * Arenas in an {@link com.github.cozygames.api.arena.ArenaGrid}
+     * only record the blocks in their slot.
+     *
+     * @return The block change recorder.
+     */
+    private @NotNull BlockChangeRecorder createRecorder() {
+        final ArenaGrid arenaGrid = this.getPlugin().getArenaGrid().orElse(null);
+        if (this.getSlot().isEmpty() || arenaGrid == null) {
+            return new BlockChangeRecorder(this.getIdentifier(), this.getWorldName());
+        }
+
+        final Vector origin = this.getOrigin();
+        return new BlockChangeRecorder(
+                this.getIdentifier(),
+                this.getWorldName(),
+                (int) origin.getX(),
+                (int) origin.getZ(),
+                (int) origin.getX() + arenaGrid.getSpacing() - 1,
+                (int) origin.getZ() + arenaGrid.getSpacing() - 1
+        );
+    }
+
+    /**
+     * Used to check if the arena's world is loaded.
+     *
+     * @return True if the world is loaded.
+     */
+    private boolean isWorldLoaded() {
+        return Bukkit.getWorld(this.getWorldName()) != null;
+    }
+
+    /**
+     * Used to load the world, or create an
+     * empty world if its folder doesn't exist.
+     */
+    private void loadWorld() {
+        Bukkit.createWorld(new WorldCreator(this.getWorldName()).generator(new ChunkGenerator() {
+        }));
+    }
+
+    /**
+     * Used to get the folder the arena's world is stored in.
+     *
+     * @return The world folder.
+     */
+    private @NotNull File getWorldFolder() {
+        return new File(Bukkit.getWorldContainer(), this.getWorldName());
+    }
+
+    /**
+     * Used to get the instance of the bukkit api plugin.
+     *
+     * @return The bukkit api plugin.
+     */
+    private @NotNull CozyGamesAPIBukkitPlugin getApiPlugin() {
+        return (CozyGamesAPIBukkitPlugin) this.getApi().getPlugin();
+    }
+
     /**
      * Used to get the spawn point as a bukkit location.
      *
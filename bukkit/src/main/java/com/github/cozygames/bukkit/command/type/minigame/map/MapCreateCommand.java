@@ -135,19 +135,32 @@ public class MapCreateCommand implements CommandType {
         Map<?> map = this.plugin.getMapFactory().create(mapName);
         map.setMaximumSessionAmount(maxAmountOfSessions);
 
-        // Register and save the map instance.
-        this.plugin.getApi().getMapManager().registerMap(map);
-        map.save();
-
-        // Send the success message to the player.
-        user.sendMessage(section.getAdaptedString(
-                                "map_created",
-                                "\n",
-                                "&aCreated a new map with identifier &f{identifier} &aand max session amount of &f{max_session_amount}&a."
-                        )
-                        .replace("{identifier}", map.getIdentifier())
-                        .replace("{max_session_amount}", String.valueOf(maxAmountOfSessions))
-        );
+        // Register the map in the database off the main thread.
+        // Then save the local configuration and message the player on the main thread.
+        final String maxSessionAmount = String.valueOf(maxAmountOfSessions);
+        this.plugin.getApi().getMapManager().registerMapAsync(map).whenCompleteAsync((mapManager, exception) -> {
+
+            // Check if the map could not be registered.
+            if (exception != null) {
+                this.plugin.getApi().getLogger().warn("Unable to register the map &f" + map.getIdentifier() + "&7. " + exception.getMessage());
+                user.sendMessage(section.getAdaptedString(
+                        "map_create_failed",
+                        "\n",
+                        "&cUnable to create the map &f{identifier}&c. Please check the console."
+                ).replace("{identifier}", map.getIdentifier()));
+                return;
+            }
+
+            map.saveToLocalConfiguration();
+            user.sendMessage(section.getAdaptedString(
+                            "map_created",
+                            "\n",
+                            "&aCreated a new map with identifier &f{identifier} &aand max session amount of &f{max_session_amount}&a."
+                    )
+                    .replace("{identifier}", map.getIdentifier())
+                    .replace("{max_session_amount}", maxSessionAmount));
+        }, this.plugin.getApi().getMainThreadExecutor());
+
         return new CommandStatus();
     }
 
@@ -98,18 +98,29 @@ public class MapDeleteCommand implements CommandType {
             return new CommandStatus();
         }
 
-        // Unregister the map.
-        this.plugin.getApi().getMapManager().unregisterMap(map.getIdentifier());
-
-        // Delete the map.
-        map.delete();
-
-        // Message the user.
-        user.sendMessage(section.getAdaptedString(
-                "map_deleted",
-                "\n",
-                "&aDeleted the map with identifier &f{identifier}&a."
-        ).replace("{identifier}", map.getIdentifier()));
+        // Unregister the map from the database off the main thread.
+        // Then delete it from the local configuration and message the user on the main thread.
+        this.plugin.getApi().getMapManager().unregisterMapAsync(map.getIdentifier()).whenCompleteAsync((mapManager, exception) -> {
+
+            // Check if the map could not be unregistered.
+            if (exception != null) {
+                this.plugin.getApi().getLogger().warn("Unable to unregister the map &f" + map.getIdentifier() + "&7. " + exception.getMessage());
+                user.sendMessage(section.getAdaptedString(
+                        "map_delete_failed",
+                        "\n",
+                        "&cUnable to delete the map &f{identifier}&c. Please check the console."
+                ).replace("{identifier}", map.getIdentifier()));
+                return;
+            }
+
+            map.deleteFromLocalConfiguration();
+            user.sendMessage(section.getAdaptedString(
+                    "map_deleted",
+                    "\n",
+                    "&aDeleted the map with identifier &f{identifier}&a."
+            ).replace("{identifier}", map.getIdentifier()));
+        }, this.plugin.getApi().getMainThreadExecutor());
+
         return new CommandStatus();
     }
 
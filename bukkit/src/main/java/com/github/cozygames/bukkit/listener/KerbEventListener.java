@@ -19,16 +19,48 @@
 package com.github.cozygames.bukkit.listener;
 
 import com.github.cozygames.api.CozyGames;
+import com.github.cozygames.api.event.internal.member.MemberListTeleportEvent;
 import com.github.cozygames.api.event.internal.member.MemberTeleportEvent;
-import org.bukkit.Bukkit;
+import com.github.cozygames.bukkit.teleport.TeleportManager;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
 public class KerbEventListener {
 
+    private final @NotNull CozyGames api;
+    private final @NotNull Plugin plugin;
+    private final @NotNull TeleportManager teleportManager;
+
+    /**
+     * Used to create a new kerb event listener.
+     *
+     * @param api             The instance of the api.
+     * @param plugin          The plugin used to schedule tasks.
+     * @param teleportManager The instance of the teleport manager.
+     */
+    public KerbEventListener(@NotNull CozyGames api, @NotNull Plugin plugin, @NotNull TeleportManager teleportManager) {
+        this.api = api;
+        this.plugin = plugin;
+        this.teleportManager = teleportManager;
+    }
+
     public @NotNull MemberTeleportEvent onMemberTeleportEvent(@NotNull MemberTeleportEvent event) {
-        final CozyGames api = Bukkit.getServicesManager().getRegistration(CozyGames.class).getProvider();
-        if (!event.getLocation().getServerName().equalsIgnoreCase(api.getServerName())) return event;
+        if (!event.getLocation().getServerName().equalsIgnoreCase(this.api.getServerName())) return event;
+
+        // Teleport the member when they join this server.
+        this.teleportManager.addTeleportEvent(this.plugin, event);
+
+        event.complete();
+        return event;
+    }
+
+    public @NotNull MemberListTeleportEvent onMemberListTeleportEvent(@NotNull MemberListTeleportEvent event) {
+        if (!event.getLocation().getServerName().equalsIgnoreCase(this.api.getServerName())) return event;
+
+        // Teleport the members when they join this server.
+        this.teleportManager.addTeleportEvent(this.plugin, event);
 
+        event.complete();
         return event;
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.monitor;
+
+/**
+ * Represents the tick rate monitor.
+ * <p>
+ * Used to measure the server's ticks per second, as the
+ * spigot api doesn't provide it. This should be run every
+ * {@link TickRateMonitor#SAMPLE_TICKS} ticks on the main thread.
+ * <p>
+ * The ticks per second are averaged, so a single
+ * slow tick doesn't change the value much.
+ */
+public class TickRateMonitor implements Runnable {
+
+    /**
+     * The amount of ticks between each run.
+     */
+    public static final int SAMPLE_TICKS = 20;
+
+    private static final double MAXIMUM_TICKS_PER_SECOND = 20;
+    private static final double SMOOTHING = 0.2;
+
+    private boolean hasRun = false;
+    private long lastRunNanos;
+    private volatile double ticksPerSecond = MAXIMUM_TICKS_PER_SECOND;
+
+    /**
+     * Used to get the server's recent ticks per second.
+     *
+     * @return The ticks per second.
+     */
+    public double getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    @Override
+    public void run() {
+        final long now = System.nanoTime();
+
+        // Check if this is the first run.
+        // A flag is used, as the nano time can be negative.
+        if (!this.hasRun) {
+            this.hasRun = true;
+            this.lastRunNanos = now;
+            return;
+        }
+
+        final double elapsedSeconds = (now - this.lastRunNanos) / 1_000_000_000D;
+        this.lastRunNanos = now;
+        if (elapsedSeconds <= 0) return;
+
+        final double sample = Math.min(MAXIMUM_TICKS_PER_SECOND, SAMPLE_TICKS / elapsedSeconds);
+        this.ticksPerSecond = this.ticksPerSecond * (1 - SMOOTHING) + sample * SMOOTHING;
+    }
+}
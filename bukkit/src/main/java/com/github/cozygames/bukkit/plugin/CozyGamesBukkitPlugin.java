@@ -31,6 +31,7 @@ import com.github.smuddgge.squishyconfiguration.directory.ConfigurationDirectory
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
@@ -48,6 +49,8 @@ public abstract class CozyGamesBukkitPlugin<
 
     private CozyGames apiPointer;
     private CozyPlugin<L> cozyPlugin;
+    private BukkitTask sessionTickTask;
+    private BukkitTask sessionReportTask;
 
     /**
      * Used to create a cozy games bukkit plugin instance.
@@ -130,12 +133,33 @@ public abstract class CozyGamesBukkitPlugin<
 
         // Enable super class.
         super.enable();
+
+        // Run the session tick handlers every tick.
+        this.sessionTickTask = Bukkit.getScheduler().runTaskTimer(
+                this.getLoader(),
+                () -> this.getSessionManager().getScheduler().tick(),
+                1, 1
+        );
+
+        // Log the session tick handler report when debugging.
+        final long reportIntervalTicks = this.getSessionReportIntervalTicks();
+        if (reportIntervalTicks > 0 && this.getApi().getLogger().getDebugMode()) {
+            this.sessionReportTask = Bukkit.getScheduler().runTaskTimer(
+                    this.getLoader(),
+                    () -> this.getSessionManager().getScheduler().logReport(this.getApi().getLogger()),
+                    reportIntervalTicks, reportIntervalTicks
+            );
+        }
         return this;
     }
 
     @Override
     public @NotNull CozyGamesPlugin<S, A, M, L> disable() {
 
+        // Stop running the session tick handlers.
+        if (this.sessionTickTask != null) this.sessionTickTask.cancel();
+        if (this.sessionReportTask != null) this.sessionReportTask.cancel();
+
         // Disable cozy plugin.
         this.cozyPlugin.disable();
 
@@ -0,0 +1,273 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.rollback;
+
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFertilizeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.block.SpongeAbsorbEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Represents the listener that passes block
+ * changes to the registered {@link BlockChangeRecorder}s.
+ * <p>
+ * Recorders are indexed by world, so worlds without
+ * recorders are skipped with a single lookup.
+ */
+public class BlockChangeListener implements Listener {
+
+    private final @NotNull Map<String, BlockChangeRecorder> recorderMap;
+    private final @NotNull Map<String, List<BlockChangeRecorder>> worldRecorderMap;
+
+    /**
+     * Used to create a new block change listener.
+     */
+    public BlockChangeListener() {
+        this.recorderMap = new ConcurrentHashMap<>();
+        this.worldRecorderMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Used to start passing block changes to a recorder.
+     * <p>
+     * If the arena already has a recorder, it will be replaced.
+     *
+     * @param recorder The instance of the recorder.
+     * @return This instance.
+     */
+    public @NotNull BlockChangeListener startRecording(@NotNull BlockChangeRecorder recorder) {
+        this.stopRecording(recorder.getArenaIdentifier());
+
+        this.recorderMap.put(recorder.getArenaIdentifier(), recorder);
+        this.worldRecorderMap.computeIfAbsent(recorder.getWorldName(), key -> new CopyOnWriteArrayList<>()).add(recorder);
+        return this;
+    }
+
+    /**
+     * Used to stop passing block changes to an arena's recorder.
+     *
+     * @param arenaIdentifier The arena's identifier.
+     * @return The optional recorder that was removed.
+     */
+    public @NotNull Optional<BlockChangeRecorder> stopRecording(@NotNull String arenaIdentifier) {
+        final BlockChangeRecorder recorder = this.recorderMap.remove(arenaIdentifier);
+        if (recorder == null) return Optional.empty();
+
+        final List<BlockChangeRecorder> recorderList = this.worldRecorderMap.get(recorder.getWorldName());
+        if (recorderList != null) {
+            recorderList.remove(recorder);
+            if (recorderList.isEmpty()) this.worldRecorderMap.remove(recorder.getWorldName());
+        }
+
+        return Optional.of(recorder);
+    }
+
+    /**
+     * Used to get an arena's recorder.
+     *
+     * @param arenaIdentifier The arena's identifier.
+     * @return The optional recorder.
+     */
+    public @NotNull Optional<BlockChangeRecorder> getRecorder(@NotNull String arenaIdentifier) {
+        return Optional.ofNullable(this.recorderMap.get(arenaIdentifier));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(@NotNull BlockBreakEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(@NotNull BlockPlaceEvent event) {
+
+        // The block has already been placed, so
+        // the replaced state is the original.
+        if (event instanceof BlockMultiPlaceEvent multiPlaceEvent) {
+            for (BlockState state : multiPlaceEvent.getReplacedBlockStates()) {
+                this.record(state.getBlock(), state);
+            }
+            return;
+        }
+
+        this.record(event.getBlock(), event.getBlockReplacedState());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(@NotNull BlockExplodeEvent event) {
+        this.record(event.getBlock());
+        event.blockList().forEach(this::record);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(@NotNull EntityExplodeEvent event) {
+        event.blockList().forEach(this::record);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(@NotNull BlockBurnEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(@NotNull BlockFadeEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(@NotNull BlockFormEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(@NotNull BlockSpreadEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(@NotNull BlockGrowEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(@NotNull BlockIgniteEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFertilize(@NotNull BlockFertilizeEvent event) {
+        this.record(event.getBlock());
+        event.getBlocks().forEach(state -> this.record(state.getBlock()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(@NotNull StructureGrowEvent event) {
+        this.record(event.getLocation().getBlock());
+        event.getBlocks().forEach(state -> this.record(state.getBlock()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpongeAbsorb(@NotNull SpongeAbsorbEvent event) {
+        this.record(event.getBlock());
+        event.getBlocks().forEach(state -> this.record(state.getBlock()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(@NotNull BlockFromToEvent event) {
+        this.record(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(@NotNull LeavesDecayEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(@NotNull EntityChangeBlockEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(@NotNull PlayerBucketEmptyEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(@NotNull PlayerBucketFillEvent event) {
+        this.record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(@NotNull BlockPistonExtendEvent event) {
+        this.record(event.getBlock());
+        for (Block block : event.getBlocks()) {
+            this.record(block);
+            this.record(block.getRelative(event.getDirection()));
+        }
+        this.record(event.getBlock().getRelative(event.getDirection()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(@NotNull BlockPistonRetractEvent event) {
+        this.record(event.getBlock());
+        this.record(event.getBlock().getRelative(event.getDirection().getOppositeFace()));
+        for (Block block : event.getBlocks()) {
+            this.record(block);
+            this.record(block.getRelative(event.getDirection()));
+        }
+    }
+
+    /**
+     * Used to record a block before it changes.
+     *
+     * @param block The instance of the block.
+     */
+    private void record(@NotNull Block block) {
+        final List<BlockChangeRecorder> recorderList = this.worldRecorderMap.get(block.getWorld().getName());
+        if (recorderList == null) return;
+
+        for (BlockChangeRecorder recorder : recorderList) {
+            recorder.record(block);
+        }
+    }
+
+    /**
+     * Used to record the original state of a block
+     * that has already changed.
+     *
+     * @param block         The instance of the block.
+     * @param originalState The state before the block changed.
+     */
+    private void record(@NotNull Block block, @NotNull BlockState originalState) {
+        final List<BlockChangeRecorder> recorderList = this.worldRecorderMap.get(block.getWorld().getName());
+        if (recorderList == null) return;
+
+        for (BlockChangeRecorder recorder : recorderList) {
+            recorder.record(block, originalState);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.rollback;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents a map of packed block positions to
+ * original block state ids.
+ * <p>
+ * This uses open addressing with primitive arrays, so
+ * recording a block doesn't create any objects. Only the
+ * first state recorded for a position is kept.
+ * <p>
+ * Positions are packed using {@link BlockChangeMap#pack(int, int, int)}.
+ */
+public class BlockChangeMap {
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Used to create an empty block change map.
+     */
+    public BlockChangeMap() {
+        this.keys = new long[64];
+        this.values = new int[64];
+        this.size = 0;
+        Arrays.fill(this.keys, EMPTY_KEY);
+    }
+
+    /**
+     * Used to add a position if it is not
+     * already contained in the map.
+     *
+     * @param key   The packed position.
+     * @param value The block state id.
+     * @return True if the position was added.
+     */
+    public boolean putIfAbsent(long key, int value) {
+        int index = this.indexOf(key, this.keys);
+
+        // Check if the position is already recorded.
+        if (this.keys[index] == key) return false;
+
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+
+        if (this.size > this.keys.length * LOAD_FACTOR) this.resize();
+        return true;
+    }
+
+    /**
+     * Used to get the amount of positions in the map.
+     *
+     * @return The size of the map.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Used to get the positions and block state ids
+     * as two arrays of the same length.
+     * <p>
+     * The arrays are copies, so the map can
+     * continue to be used.
+     *
+     * @return The entries of the map.
+     */
+    public @NotNull Entries getEntries() {
+        final long[] keyArray = new long[this.size];
+        final int[] valueArray = new int[this.size];
+
+        int position = 0;
+        for (int index = 0; index < this.keys.length; index++) {
+            if (this.keys[index] == EMPTY_KEY) continue;
+
+            keyArray[position] = this.keys[index];
+            valueArray[position] = this.values[index];
+            position++;
+        }
+
+        return new Entries(keyArray, valueArray);
+    }
+
+    /**
+     * Used to remove every position from the map.
+     */
+    public void clear() {
+        this.keys = new long[64];
+        this.values = new int[64];
+        this.size = 0;
+        Arrays.fill(this.keys, EMPTY_KEY);
+    }
+
+    /**
+     * Represents the entries of a block change map.
+     *
+     * @param keys   The packed positions.
+     * @param values The block state ids.
+     */
+    public record Entries(long[] keys, int[] values) {
+    }
+
+    /**
+     * Used to pack a block position into a long.
+     * <p>
+     * The x and z coordinates use 26 bits and
+     * the y coordinate uses 12 bits.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The packed position.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38
+                | ((long) z & 0x3FFFFFFL) << 12
+                | ((long) y & 0xFFFL);
+    }
+
+    /**
+     * Used to get the x coordinate of a packed position.
+     *
+     * @param key The packed position.
+     * @return The x coordinate.
+     */
+    public static int unpackX(long key) {
+        return (int) (key >> 38);
+    }
+
+    /**
+     * Used to get the y coordinate of a packed position.
+     *
+     * @param key The packed position.
+     * @return The y coordinate.
+     */
+    public static int unpackY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    /**
+     * Used to get the z coordinate of a packed position.
+     *
+     * @param key The packed position.
+     * @return The z coordinate.
+     */
+    public static int unpackZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Used to double the size of the arrays.
+     */
+    private void resize() {
+        final long[] oldKeys = this.keys;
+        final int[] oldValues = this.values;
+
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new int[oldValues.length * 2];
+        Arrays.fill(this.keys, EMPTY_KEY);
+
+        for (int index = 0; index < oldKeys.length; index++) {
+            if (oldKeys[index] == EMPTY_KEY) continue;
+
+            final int newIndex = this.indexOf(oldKeys[index], this.keys);
+            this.keys[newIndex] = oldKeys[index];
+            this.values[newIndex] = oldValues[index];
+        }
+    }
+
+    /**
+     * Used to find the index of a key, or the empty
+     * index where the key should be placed.
+     *
+     * @param key     The packed position.
+     * @param keyList The array of keys to search.
+     * @return The index.
+     */
+    private int indexOf(long key, long[] keyList) {
+        final int mask = keyList.length - 1;
+        int index = BlockChangeMap.hash(key) & mask;
+
+        while (keyList[index] != EMPTY_KEY && keyList[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Used to spread the bits of a packed position.
+     *
+     * @param key The packed position.
+     * @return The hash.
+     */
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.rollback;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.TileState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a record of the blocks changed in an arena.
+ * <p>
+ * The original state of each changed block is stored, so the
+ * arena can be rolled back instead of being rebuilt. Block states
+ * are stored as ids in a palette, and positions are stored in a
+ * {@link BlockChangeMap}. Blocks with a tile entity, such as chests
+ * and signs, also keep a snapshot of their tile state.
+ * <p>
+ * The entities in the area can be recorded, so entities added
+ * while recording, such as dropped items, are removed when
+ * rolling back.
+ * <p>
+ * Recorders are registered with the {@link BlockChangeListener}.
+ * This should only be used on the main thread.
+ */
+public class BlockChangeRecorder {
+
+    private final @NotNull String arenaIdentifier;
+    private final @NotNull String worldName;
+
+    private final boolean isBounded;
+    private final int minimumX;
+    private final int minimumZ;
+    private final int maximumX;
+    private final int maximumZ;
+
+    private final @NotNull BlockChangeMap changeMap;
+    private final @NotNull List<BlockData> palette;
+    private final @NotNull Map<BlockData, Integer> paletteIndexMap;
+    private final @NotNull Map<Long, BlockState> tileStateMap;
+    private final @NotNull Set<UUID> entityUuidSet;
+
+    /**
+     * Used to create a recorder for an entire world.
+     *
+     * @param arenaIdentifier The arena's identifier.
+     * @param worldName       The name of the world.
+     */
+    public BlockChangeRecorder(@NotNull String arenaIdentifier, @NotNull String worldName) {
+        this(arenaIdentifier, worldName, false, 0, 0, 0, 0);
+    }
+
+    /**
+     * Used to create a recorder for an area of a world.
+     * <p>
+     * The area contains every height, and the
+     * minimum and maximum coordinates.
+     *
+     * @param arenaIdentifier The arena's identifier.
+     * @param worldName       The name of the world.
+     * @param minimumX        The minimum x coordinate.
+     * @param minimumZ        The minimum z coordinate.
+     * @param maximumX        The maximum x coordinate.
+     * @param maximumZ        The maximum z coordinate.
+     */
+    public BlockChangeRecorder(@NotNull String arenaIdentifier, @NotNull String worldName,
+                               int minimumX, int minimumZ, int maximumX, int maximumZ) {
+
+        this(arenaIdentifier, worldName, true, minimumX, minimumZ, maximumX, maximumZ);
+    }
+
+    private BlockChangeRecorder(@NotNull String arenaIdentifier, @NotNull String worldName, boolean isBounded,
+                                int minimumX, int minimumZ, int maximumX, int maximumZ) {
+
+        this.arenaIdentifier = arenaIdentifier;
+        this.worldName = worldName;
+        this.isBounded = isBounded;
+        this.minimumX = minimumX;
+        this.minimumZ = minimumZ;
+        this.maximumX = maximumX;
+        this.maximumZ = maximumZ;
+
+        this.changeMap = new BlockChangeMap();
+        this.palette = new ArrayList<>();
+        this.paletteIndexMap = new HashMap<>();
+        this.tileStateMap = new HashMap<>();
+        this.entityUuidSet = new HashSet<>();
+    }
+
+    /**
+     * Used to get the identifier of the arena
+     * this recorder belongs to.
+     *
+     * @return The arena identifier.
+     */
+    public @NotNull String getArenaIdentifier() {
+        return this.arenaIdentifier;
+    }
+
+    /**
+     * Used to get the name of the world
+     * this recorder is recording.
+     *
+     * @return The world name.
+     */
+    public @NotNull String getWorldName() {
+        return this.worldName;
+    }
+
+    /**
+     * Used to get the amount of blocks that have changed.
+     *
+     * @return The amount of changed blocks.
+     */
+    public int getChangeAmount() {
+        return this.changeMap.size();
+    }
+
+    /**
+     * Used to check if a block is within the
+     * area this recorder is recording.
+     *
+     * @param block The instance of the block.
+     * @return True if the block is recorded by this recorder.
+     */
+    public boolean contains(@NotNull Block block) {
+        if (!block.getWorld().getName().equals(this.worldName)) return false;
+        if (!this.isBounded) return true;
+
+        return this.contains(block.getX(), block.getZ());
+    }
+
+    /**
+     * Used to check if a location is within the
+     * area this recorder is recording.
+     *
+     * @param location The location to check.
+     * @return True if the location is recorded by this recorder.
+     */
+    public boolean contains(@NotNull Location location) {
+        if (location.getWorld() == null || !location.getWorld().getName().equals(this.worldName)) return false;
+        if (!this.isBounded) return true;
+
+        return this.contains(location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Used to record a block before it is changed.
+     *
+     * @param block The instance of the block.
+     * @return This instance.
+     */
+    public @NotNull BlockChangeRecorder record(@NotNull Block block) {
+        if (!this.contains(block)) return this;
+        return this.record(block, block.getState());
+    }
+
+    /**
+     * Used to record the original state of a block,
+     * including its tile state.
+     * <p>
+     * If the block has already been recorded,
+     * the first state is kept.
+     *
+     * @param block         The instance of the block.
+     * @param originalState The state of the block before it changed.
+     * @return This instance.
+     */
+    public @NotNull BlockChangeRecorder record(@NotNull Block block, @NotNull BlockState originalState) {
+        if (!this.contains(block)) return this;
+
+        final long key = BlockChangeMap.pack(block.getX(), block.getY(), block.getZ());
+        if (!this.changeMap.putIfAbsent(key, this.getPaletteIndex(originalState.getBlockData()))) return this;
+
+        // Keep the tile state, so its contents can be restored.
+        if (originalState instanceof TileState) this.tileStateMap.put(key, originalState);
+        return this;
+    }
+
+    /**
+     * Used to record the original state of a block.
+     * <p>
+     * If the block has already been recorded,
+     * the first state is kept.
+     *
+     * @param block         The instance of the block.
+     * @param originalState The state of the block before it changed.
+     * @return This instance.
+     */
+    public @NotNull BlockChangeRecorder record(@NotNull Block block, @NotNull BlockData originalState) {
+        if (!this.contains(block)) return this;
+
+        final long key = BlockChangeMap.pack(block.getX(), block.getY(), block.getZ());
+        this.changeMap.putIfAbsent(key, this.getPaletteIndex(originalState));
+        return this;
+    }
+
+    /**
+     * Used to record the entities that are currently in the area.
+     * <p>
+     * When rolling back, other entities in the area are removed,
+     * except for players.
+     *
+     * @return This instance.
+     */
+    public @NotNull BlockChangeRecorder recordEntities() {
+        final World world = Bukkit.getWorld(this.worldName);
+        if (world == null) return this;
+
+        for (Entity entity : world.getEntities()) {
+            if (entity instanceof Player) continue;
+            if (this.contains(entity.getLocation())) this.entityUuidSet.add(entity.getUniqueId());
+        }
+        return this;
+    }
+
+    /**
+     * Used to restore the original state of every
+     * changed block over many ticks.
+     * <p>
+     * Blocks are restored until the tick's time budget is
+     * used, with at least one block restored each tick.
+     * Once every block is restored, entities that were added
+     * to the area are removed.
+     * The recorder is cleared, so it can continue recording.
+     * <p>
+     * If a recorded entity was removed, it can't be restored,
+     * so the future completes exceptionally and the area
+     * should not be used again.
+     *
+     * @param plugin       The plugin used to schedule the rollback.
+     * @param budgetMillis The maximum amount of milliseconds
+     *                     that can be used each tick.
+     * @return The future that completes with the
+     * amount of restored blocks.
+     */
+    public @NotNull CompletableFuture<Integer> rollback(@NotNull Plugin plugin, long budgetMillis) {
+        final BlockChangeMap.Entries entries = this.changeMap.getEntries();
+        final List<BlockData> paletteSnapshot = new ArrayList<>(this.palette);
+        final Map<Long, BlockState> tileStateSnapshot = new HashMap<>(this.tileStateMap);
+        final Set<UUID> entityUuidSnapshot = new HashSet<>(this.entityUuidSet);
+        this.clear();
+
+        final World world = Bukkit.getWorld(this.worldName);
+        if (world == null) return CompletableFuture.completedFuture(0);
+        if (entries.keys().length == 0) {
+            try {
+                this.removeAddedEntities(world, entityUuidSnapshot);
+                return CompletableFuture.completedFuture(0);
+            } catch (Exception exception) {
+                return CompletableFuture.failedFuture(exception);
+            }
+        }
+
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final long budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+        final int[] position = {0};
+        final BukkitTask[] task = {null};
+
+        task[0] = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            final long deadline = System.nanoTime() + budgetNanos;
+
+            try {
+                do {
+                    final long key = entries.keys()[position[0]];
+                    world.getBlockAt(BlockChangeMap.unpackX(key), BlockChangeMap.unpackY(key), BlockChangeMap.unpackZ(key))
+                            .setBlockData(paletteSnapshot.get(entries.values()[position[0]]), false);
+
+                    // Restore the contents of the tile entity.
+                    final BlockState tileState = tileStateSnapshot.get(key);
+                    if (tileState != null) tileState.update(true, false);
+
+                    position[0]++;
+
+                } while (position[0] < entries.keys().length && System.nanoTime() < deadline);
+
+                // Check if every block has been restored.
+                if (position[0] >= entries.keys().length) this.removeAddedEntities(world, entityUuidSnapshot);
+
+            } catch (Exception exception) {
+                task[0].cancel();
+                future.completeExceptionally(exception);
+                return;
+            }
+
+            // Check if every block has been restored.
+            if (position[0] >= entries.keys().length) {
+                task[0].cancel();
+                future.complete(entries.keys().length);
+            }
+        }, 1, 1);
+
+        return future;
+    }
+
+    /**
+     * Used to forget every recorded block.
+     *
+     * @return This instance.
+     */
+    public @NotNull BlockChangeRecorder clear() {
+        this.changeMap.clear();
+        this.palette.clear();
+        this.paletteIndexMap.clear();
+        this.tileStateMap.clear();
+        this.entityUuidSet.clear();
+        return this;
+    }
+
+    /**
+     * Used to remove the entities in the area that
+     * were not recorded, except for players.
+     *
+     * @param world         The instance of the world.
+     * @param entityUuidSet The uuids of the recorded entities.
+     * @throws IllegalStateException If a recorded entity was removed.
+     */
+    private void removeAddedEntities(@NotNull World world, @NotNull Set<UUID> entityUuidSet) {
+        int foundAmount = 0;
+
+        for (Entity entity : world.getEntities()) {
+            if (entity instanceof Player) continue;
+            if (!this.contains(entity.getLocation())) continue;
+
+            if (entityUuidSet.contains(entity.getUniqueId())) {
+                foundAmount++;
+                continue;
+            }
+            entity.remove();
+        }
+
+        // Check if a recorded entity is missing.
+        if (foundAmount < entityUuidSet.size()) {
+            throw new IllegalStateException((entityUuidSet.size() - foundAmount)
+                    + " entities were removed from the world " + this.worldName + " and can't be restored."
+            );
+        }
+    }
+
+    private boolean contains(int x, int z) {
+        return x >= this.minimumX && x <= this.maximumX
+                && z >= this.minimumZ && z <= this.maximumZ;
+    }
+
+    /**
+     * Used to get the palette id of a block state.
+     * The state is added to the palette if needed.
+     *
+     * @param state The block state.
+     * @return The palette id.
+     */
+    private int getPaletteIndex(@NotNull BlockData state) {
+        final Integer index = this.paletteIndexMap.get(state);
+        if (index != null) return index;
+
+        final BlockData clone = state.clone();
+        this.palette.add(clone);
+        this.paletteIndexMap.put(clone, this.palette.size() - 1);
+        return this.palette.size() - 1;
+    }
+}
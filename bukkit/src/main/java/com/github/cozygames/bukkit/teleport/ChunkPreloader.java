@@ -0,0 +1,353 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.teleport;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a chunk preloader.
+ * <p>
+ * Used to load the chunks around a teleport destination before
+ * players are teleported there, so a group arriving at the
+ * same time doesn't load the chunks all at once.
+ * <p>
+ * Chunks are loaded a few at a time each tick and kept loaded
+ * with plugin chunk tickets. Tickets are counted, so chunks shared
+ * by more than one destination stay loaded until every destination
+ * is released. A destination is released once the expected amount
+ * of players arrive, or when it times out.
+ * <p>
+ * Every method should be called on the main thread.
+ */
+public class ChunkPreloader {
+
+    private final @NotNull Plugin plugin;
+    private final @NotNull Map<ChunkKey, Integer> ticketAmountMap;
+    private final @NotNull Map<ChunkKey, List<Request>> requestMap;
+    private final @NotNull ArrayDeque<Request> loadQueue;
+    private @Nullable BukkitTask loadTask;
+
+    private int radius;
+    private int chunksPerTick;
+    private long timeoutTicks;
+
+    /**
+     * Represents a chunk in a world.
+     *
+     * @param worldName The name of the world.
+     * @param x         The chunk's x coordinate.
+     * @param z         The chunk's z coordinate.
+     */
+    private record ChunkKey(@NotNull String worldName, int x, int z) {
+    }
+
+    /**
+     * Represents a destination that is being preloaded.
+     */
+    private static class Request {
+
+        private final @NotNull World world;
+        private final @NotNull ChunkKey center;
+        private final @NotNull List<ChunkKey> chunkList;
+        private final @NotNull CompletableFuture<Void> future;
+        private int loadedAmount;
+        private int remainingArrivals;
+        private @Nullable BukkitTask timeoutTask;
+        private boolean isReleased;
+
+        private Request(@NotNull World world, @NotNull ChunkKey center, @NotNull List<ChunkKey> chunkList, int arrivalAmount) {
+            this.world = world;
+            this.center = center;
+            this.chunkList = chunkList;
+            this.future = new CompletableFuture<>();
+            this.remainingArrivals = arrivalAmount;
+        }
+    }
+
+    /**
+     * Used to create a new chunk preloader.
+     *
+     * @param plugin        The plugin that owns the chunk tickets.
+     * @param radius        The radius of chunks to load around a destination.
+     * @param chunksPerTick The maximum amount of chunks to load each tick.
+     * @param timeoutTicks  The amount of ticks before a destination is released
+     *                      if the players don't arrive.
+     */
+    public ChunkPreloader(@NotNull Plugin plugin, int radius, int chunksPerTick, long timeoutTicks) {
+        this.plugin = plugin;
+        this.ticketAmountMap = new HashMap<>();
+        this.requestMap = new HashMap<>();
+        this.loadQueue = new ArrayDeque<>();
+        this.radius = radius;
+        this.chunksPerTick = chunksPerTick;
+        this.timeoutTicks = timeoutTicks;
+    }
+
+    /**
+     * Used to set the radius of chunks to
+     * load around a destination.
+     * <p>
+     * A radius of 2 loads a 5 by 5 area.
+     *
+     * @param radius The radius in chunks.
+     * @return This instance.
+     */
+    public @NotNull ChunkPreloader setRadius(int radius) {
+        this.radius = Math.max(0, radius);
+        return this;
+    }
+
+    /**
+     * Used to set the maximum amount of
+     * chunks to load each tick.
+     *
+     * @param chunksPerTick The amount of chunks.
+     * @return This instance.
+     */
+    public @NotNull ChunkPreloader setChunksPerTick(int chunksPerTick) {
+        this.chunksPerTick = Math.max(1, chunksPerTick);
+        return this;
+    }
+
+    /**
+     * Used to set the amount of ticks before a destination
+     * is released if the players don't arrive.
+     *
+     * @param timeoutTicks The amount of ticks.
+     * @return This instance.
+     */
+    public @NotNull ChunkPreloader setTimeoutTicks(long timeoutTicks) {
+        this.timeoutTicks = Math.max(1, timeoutTicks);
+        return this;
+    }
+
+    /**
+     * Used to get the amount of chunks currently
+     * kept loaded by this preloader.
+     *
+     * @return The amount of ticketed chunks.
+     */
+    public int getTicketAmount() {
+        return this.ticketAmountMap.size();
+    }
+
+    /**
+     * Used to load the chunks around a destination.
+     * <p>
+     * The chunks stay loaded until {@link ChunkPreloader#arrive(Location)}
+     * has been called for each expected player, or the timeout is reached.
+     *
+     * @param location      The destination.
+     * @param arrivalAmount The amount of players expected to arrive.
+     * @return The future that completes when the chunks are loaded.
+     */
+    public @NotNull CompletableFuture<Void> preload(@NotNull Location location, int arrivalAmount) {
+        final World world = location.getWorld();
+        if (world == null || arrivalAmount <= 0) return CompletableFuture.completedFuture(null);
+
+        final ChunkKey center = new ChunkKey(world.getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        final Request request = new Request(world, center, this.getChunkList(center), arrivalAmount);
+
+        this.requestMap.computeIfAbsent(center, key -> new ArrayList<>()).add(request);
+        this.loadQueue.add(request);
+        request.timeoutTask = Bukkit.getScheduler().runTaskLater(this.plugin, () -> this.release(request), this.timeoutTicks);
+
+        this.startLoading();
+        return request.future;
+    }
+
+    /**
+     * Used to tell the preloader that a player
+     * arrived at a destination.
+     * <p>
+     * When every expected player has arrived,
+     * the destination's chunks are released.
+     *
+     * @param location The location the player arrived at.
+     * @return True if the location was being preloaded.
+     */
+    public boolean arrive(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) return false;
+
+        final List<Request> requestList = this.requestMap.get(
+                new ChunkKey(world.getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4)
+        );
+        if (requestList == null || requestList.isEmpty()) return false;
+
+        final Request request = requestList.get(0);
+        request.remainingArrivals--;
+        if (request.remainingArrivals <= 0) this.release(request);
+        return true;
+    }
+
+    /**
+     * Used to release every destination.
+     *
+     * @return This instance.
+     */
+    public @NotNull ChunkPreloader releaseAll() {
+        for (List<Request> requestList : new ArrayList<>(this.requestMap.values())) {
+            new ArrayList<>(requestList).forEach(this::release);
+        }
+        return this;
+    }
+
+    /**
+     * Used to get the chunks around a center chunk,
+     * ordered from closest to furthest.
+     *
+     * @param center The center chunk.
+     * @return The list of chunks.
+     */
+    private @NotNull List<ChunkKey> getChunkList(@NotNull ChunkKey center) {
+        final List<ChunkKey> chunkList = new ArrayList<>();
+
+        for (int x = -this.radius; x <= this.radius; x++) {
+            for (int z = -this.radius; z <= this.radius; z++) {
+                chunkList.add(new ChunkKey(center.worldName(), center.x() + x, center.z() + z));
+            }
+        }
+
+        chunkList.sort(Comparator.comparingInt(chunk ->
+                Math.max(Math.abs(chunk.x() - center.x()), Math.abs(chunk.z() - center.z()))
+        ));
+        return chunkList;
+    }
+
+    /**
+     * Used to start the task that loads chunks
+     * if it isn't already running.
+     */
+    private void startLoading() {
+        if (this.loadTask != null) return;
+        this.loadTask = Bukkit.getScheduler().runTaskTimer(this.plugin, this::loadChunks, 0, 1);
+    }
+
+    /**
+     * Used to load up to the maximum amount of
+     * chunks for this tick.
+     */
+    private void loadChunks() {
+        int budget = this.chunksPerTick;
+
+        while (budget > 0 && !this.loadQueue.isEmpty()) {
+            final Request request = this.loadQueue.peek();
+
+            // Skip requests that were released before loading.
+            if (request.isReleased) {
+                this.loadQueue.poll();
+                continue;
+            }
+
+            this.addTicket(request.world, request.chunkList.get(request.loadedAmount));
+            request.loadedAmount++;
+            budget--;
+
+            // Check if every chunk has been loaded.
+            if (request.loadedAmount >= request.chunkList.size()) {
+                this.loadQueue.poll();
+                request.future.complete(null);
+            }
+        }
+
+        // Stop the task when there is nothing left to load.
+        if (this.loadQueue.isEmpty() && this.loadTask != null) {
+            this.loadTask.cancel();
+            this.loadTask = null;
+        }
+    }
+
+    /**
+     * Used to release the chunk tickets of a destination.
+     * <p>
+     * If the chunks haven't finished loading, the
+     * future is completed so the teleport isn't held up.
+     *
+     * @param request The destination request.
+     */
+    private void release(@NotNull Request request) {
+        if (request.isReleased) return;
+        request.isReleased = true;
+
+        for (int index = 0; index < request.loadedAmount; index++) {
+            this.removeTicket(request.world, request.chunkList.get(index));
+        }
+
+        // Remove the request from the destination index.
+        final List<Request> requestList = this.requestMap.get(request.center);
+        if (requestList != null) {
+            requestList.remove(request);
+            if (requestList.isEmpty()) this.requestMap.remove(request.center);
+        }
+
+        if (request.timeoutTask != null) request.timeoutTask.cancel();
+        request.future.complete(null);
+    }
+
+    /**
+     * Used to load a chunk and add a ticket to it.
+     * <p>
+     * The plugin chunk ticket is only added
+     * for the first reference.
+     *
+     * @param world The world the chunk is in.
+     * @param chunk The chunk.
+     */
+    private void addTicket(@NotNull World world, @NotNull ChunkKey chunk) {
+        final int amount = this.ticketAmountMap.merge(chunk, 1, Integer::sum);
+        if (amount == 1) world.addPluginChunkTicket(chunk.x(), chunk.z(), this.plugin);
+    }
+
+    /**
+     * Used to remove a reference to a chunk.
+     * <p>
+     * The plugin chunk ticket is removed once
+     * there are no more references.
+     *
+     * @param world The world the chunk is in.
+     * @param chunk The chunk.
+     */
+    private void removeTicket(@NotNull World world, @NotNull ChunkKey chunk) {
+        final Integer amount = this.ticketAmountMap.get(chunk);
+        if (amount == null) return;
+
+        if (amount > 1) {
+            this.ticketAmountMap.put(chunk, amount - 1);
+            return;
+        }
+
+        this.ticketAmountMap.remove(chunk);
+        world.removePluginChunkTicket(chunk.x(), chunk.z(), this.plugin);
+    }
+}
@@ -18,16 +18,27 @@
 
 package com.github.cozygames.bukkit.teleport;
 
+import com.github.cozygames.api.event.internal.member.MemberListTeleportEvent;
 import com.github.cozygames.api.event.internal.member.MemberTeleportEvent;
+import com.github.cozygames.api.location.ServerLocation;
+import com.github.cozygames.api.member.Member;
 import com.github.cozygames.bukkit.adapter.BukkitLocationConverter;
 import com.github.cozyplugins.cozylibrary.user.PlayerUser;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a teleport manager.
@@ -35,45 +46,203 @@ import java.util.List;
  * Handles making sure players get teleport to the
  * correct world and location when a kerb teleport
  * event is received.
+ * <p>
+ * Only the latest teleport for each player is kept. A pending
+ * teleport is removed when the player joins, or when it expires.
+ * Expired teleports are removed by a sweeper that runs
+ * asynchronously.
  */
 public class TeleportManager implements Listener {
 
-    private final @NotNull List<MemberTeleportEvent> teleportEventsToProcess;
+    private final @NotNull ConcurrentHashMap<UUID, PendingTeleport> pendingTeleportMap;
+    private final @NotNull ChunkPreloader chunkPreloader;
+    private volatile long timeToLiveMillis;
+    private @Nullable BukkitTask sweeperTask;
+
+    /**
+     * Represents a teleport waiting for the player to join.
+     *
+     * @param location   The location to teleport to.
+     * @param expiryTime The time the teleport expires in milliseconds.
+     */
+    private record PendingTeleport(@NotNull ServerLocation location, long expiryTime) {
+
+        public boolean isExpired(long now) {
+            return now >= this.expiryTime;
+        }
+    }
 
     /**
      * Used to create a new teleport manager.
+     *
+     * @param timeToLiveMillis How long a teleport waits
+     *                         for the player to join.
+     * @param chunkPreloader   The chunk preloader to tell when
+     *                         players arrive.
      */
-    public TeleportManager() {
-        this.teleportEventsToProcess = new ArrayList<>();
+    public TeleportManager(long timeToLiveMillis, @NotNull ChunkPreloader chunkPreloader) {
+        this.pendingTeleportMap = new ConcurrentHashMap<>();
+        this.chunkPreloader = chunkPreloader;
+        this.timeToLiveMillis = timeToLiveMillis;
     }
 
     @EventHandler
     public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
-        for (MemberTeleportEvent teleportEvent : this.teleportEventsToProcess) {
-            if (!teleportEvent.getMember().getUuid().equals(event.getPlayer().getUniqueId())) continue;
-            PlayerUser user = new PlayerUser(event.getPlayer());
-            user.forceTeleport(teleportEvent.getLocation().getLocation(new BukkitLocationConverter()));
+        this.consumeTeleport(event.getPlayer().getUniqueId())
+                .ifPresent(location -> this.teleport(event.getPlayer(), location));
+    }
+
+    /**
+     * Used to set how long a teleport
+     * waits for the player to join.
+     *
+     * @param timeToLiveMillis The time in milliseconds.
+     * @return This instance.
+     */
+    public @NotNull TeleportManager setTimeToLiveMillis(long timeToLiveMillis) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        return this;
+    }
+
+    /**
+     * Used to get the amount of teleports
+     * waiting for players to join.
+     *
+     * @return The amount of pending teleports.
+     */
+    public int getPendingAmount() {
+        return this.pendingTeleportMap.size();
+    }
+
+    /**
+     * Used to add a new teleport event for a player.
+     *
+     * @param plugin The plugin used to schedule the teleport.
+     * @param event  The instance of the teleport event.
+     * @return This instance.
+     */
+    public @NotNull TeleportManager addTeleportEvent(@NotNull Plugin plugin, @NotNull MemberTeleportEvent event) {
+        return this.addTeleport(plugin, event.getMember().getUuid(), event.getLocation());
+    }
+
+    /**
+     * Used to add a new teleport for every
+     * member in a member list teleport event.
+     *
+     * @param plugin The plugin used to schedule the teleports.
+     * @param event  The instance of the teleport event.
+     * @return This instance.
+     */
+    public @NotNull TeleportManager addTeleportEvent(@NotNull Plugin plugin, @NotNull MemberListTeleportEvent event) {
+        for (Member member : event.getMemberList()) {
+            this.addTeleport(plugin, member.getUuid(), event.getLocation());
+        }
+        return this;
+    }
+
+    /**
+     * Used to add a new teleport for a player.
+     * <p>
+     * This will replace any teleport already
+     * waiting for the player.
+     * <p>
+     * If the player is already online they are
+     * teleported on the next tick.
+     *
+     * @param plugin     The plugin used to schedule the teleport.
+     * @param playerUuid The player's uuid.
+     * @param location   The location to teleport to.
+     * @return This instance.
+     */
+    public @NotNull TeleportManager addTeleport(@NotNull Plugin plugin, @NotNull UUID playerUuid, @NotNull ServerLocation location) {
+        this.pendingTeleportMap.put(playerUuid, new PendingTeleport(
+                location,
+                System.currentTimeMillis() + this.timeToLiveMillis
+        ));
+
+        // Check if the player is already on this server.
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            final Player player = Bukkit.getPlayer(playerUuid);
+            if (player == null) return;
+
+            this.consumeTeleport(playerUuid)
+                    .ifPresent(pendingLocation -> this.teleport(player, pendingLocation));
+        });
+        return this;
+    }
+
+    /**
+     * Used to get and remove the pending teleport for a player.
+     *
+     * @param playerUuid The player's uuid.
+     * @return The optional location to teleport to.
+     * Empty if there is no teleport or it has expired.
+     */
+    public @NotNull Optional<ServerLocation> consumeTeleport(@NotNull UUID playerUuid) {
+        final PendingTeleport pendingTeleport = this.pendingTeleportMap.remove(playerUuid);
+        if (pendingTeleport == null) return Optional.empty();
+        if (pendingTeleport.isExpired(System.currentTimeMillis())) return Optional.empty();
+        return Optional.of(pendingTeleport.location());
+    }
+
+    /**
+     * Used to remove every expired teleport.
+     *
+     * @return The amount of teleports removed.
+     */
+    public int removeExpired() {
+        final long now = System.currentTimeMillis();
+        int removedAmount = 0;
+
+        for (Map.Entry<UUID, PendingTeleport> entry : this.pendingTeleportMap.entrySet()) {
+            if (!entry.getValue().isExpired(now)) continue;
+            if (this.pendingTeleportMap.remove(entry.getKey(), entry.getValue())) removedAmount++;
         }
+        return removedAmount;
     }
 
     /**
-     * Used to get the list of teleport
-     * events that need processing.
+     * Used to start removing expired teleports
+     * asynchronously every so often.
      *
-     * @return The list of teleport events.
+     * @param plugin      The plugin used to schedule the sweeper.
+     * @param periodTicks The amount of ticks between each sweep.
+     * @return This instance.
      */
-    public @NotNull List<MemberTeleportEvent> getTeleportEventsToProcess() {
-        return this.teleportEventsToProcess;
+    public @NotNull TeleportManager startSweeper(@NotNull Plugin plugin, long periodTicks) {
+        this.stopSweeper();
+        this.sweeperTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
+                plugin, this::removeExpired, periodTicks, periodTicks
+        );
+        return this;
     }
 
     /**
-     * Used to add a new teleport event to the process list.
+     * Used to stop the expired teleport sweeper.
      *
-     * @param event The instance of the teleport event.
      * @return This instance.
      */
-    public @NotNull TeleportManager addTeleportEvent(@NotNull MemberTeleportEvent event) {
-        this.teleportEventsToProcess.add(event);
+    public @NotNull TeleportManager stopSweeper() {
+        if (this.sweeperTask != null) this.sweeperTask.cancel();
+        this.sweeperTask = null;
         return this;
     }
+
+    /**
+     * Used to teleport a player to a location.
+     * <p>
+     * The {@link ChunkPreloader} is told the player arrived,
+     * so the destination's chunks can be released.
+     *
+     * @param player         The instance of the player.
+     * @param serverLocation The location to teleport to.
+     */
+    private void teleport(@NotNull Player player, @NotNull ServerLocation serverLocation) {
+        final Location location = serverLocation.getLocation(new BukkitLocationConverter());
+
+        PlayerUser user = new PlayerUser(player);
+        user.forceTeleport(location);
+
+        this.chunkPreloader.arrive(location);
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.world;
+
+import com.github.cozygames.api.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the pipeline used to clone template world folders.
+ * <p>
+ * Files are copied using {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * so the operating system can copy the files without them
+ * passing through the server's memory.
+ * <p>
+ * The world's unique id file and session lock are not copied,
+ * so the server will treat the copy as a new world.
+ */
+public class WorldCloner {
+
+    /**
+     * The names of the files that should not be copied.
+     */
+    public static final @NotNull Set<String> IGNORED_FILE_NAMES = Set.of("uid.dat", "session.lock");
+
+    private final @NotNull Logger logger;
+    private final @NotNull ExecutorService executor;
+
+    /**
+     * Used to create a new world cloner.
+     *
+     * @param logger The instance of the logger.
+     */
+    public WorldCloner(@NotNull Logger logger) {
+        this.logger = logger.createExtension("&7[WorldCloner] &5");
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "CozyGames-World-Cloner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Used to copy a template folder on the background thread.
+     *
+     * @param template    The template world folder.
+     * @param destination The new world folder.
+     * @return The future that completes when every file is copied.
+     */
+    public @NotNull CompletableFuture<Void> cloneAsync(@NotNull Path template, @NotNull Path destination) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                this.clone(template, destination);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Used to copy a template folder on the current thread.
+     *
+     * @param template    The template world folder.
+     * @param destination The new world folder.
+     * @throws IOException If a file could not be copied.
+     */
+    public void clone(@NotNull Path template, @NotNull Path destination) throws IOException {
+        if (!Files.isDirectory(template)) {
+            throw new IOException("The template " + template + " is not a directory.");
+        }
+
+        Files.walkFileTree(template, new SimpleFileVisitor<>() {
+
+            @Override
+            public @NotNull FileVisitResult preVisitDirectory(@NotNull Path directory, @NotNull BasicFileAttributes attributes) throws IOException {
+                Files.createDirectories(destination.resolve(template.relativize(directory)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attributes) throws IOException {
+                if (IGNORED_FILE_NAMES.contains(file.getFileName().toString())) return FileVisitResult.CONTINUE;
+
+                WorldCloner.transfer(file, destination.resolve(template.relativize(file)));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        this.logger.debug("Cloned &f" + template + "&5 to &f" + destination);
+    }
+
+    /**
+     * Used to stop the background thread.
+     *
+     * @return This instance.
+     */
+    public @NotNull WorldCloner shutdown() {
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return this;
+    }
+
+    /**
+     * Used to copy a single file using a file channel.
+     *
+     * @param source      The file to copy.
+     * @param destination The file to create.
+     * @throws IOException If the file could not be copied.
+     */
+    private static void transfer(@NotNull Path source, @NotNull Path destination) throws IOException {
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(destination,
+                     StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.WRITE)) {
+
+            // Transfer to may copy less than requested,
+            // so continue until every byte is copied.
+            final long size = input.size();
+            long position = 0;
+            while (position < size) {
+                position += input.transferTo(position, size - position, output);
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.world;
+
+import com.github.cozygames.api.logger.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the pipeline used to delete world folders.
+ * <p>
+ * Worlds are unloaded on the main thread, and then their folders
+ * are deleted recursively on a single background thread. The
+ * amount of files deleted each second is limited, so deleting
+ * worlds doesn't compete with the server for disk access.
+ * <p>
+ * Folders waiting to be deleted are written to a journal file.
+ * If the server stops before a folder is deleted, it will be
+ * deleted when {@link WorldDeleter#resume()} is called.
+ */
+public class WorldDeleter {
+
+    private final @NotNull Logger logger;
+    private final @NotNull Path journalPath;
+    private final @NotNull Set<Path> pendingPathSet;
+    private final @NotNull ExecutorService executor;
+
+    private volatile int filesPerSecond;
+
+    /**
+     * Used to create a new world deleter.
+     *
+     * @param logger         The instance of the logger.
+     * @param journalFile    The file used to store pending deletions.
+     * @param filesPerSecond The maximum amount of files to delete each second.
+     */
+    public WorldDeleter(@NotNull Logger logger, @NotNull File journalFile, int filesPerSecond) {
+        this.logger = logger.createExtension("&7[WorldDeleter] &5");
+        this.journalPath = journalFile.toPath();
+        this.pendingPathSet = new LinkedHashSet<>();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "CozyGames-World-Deleter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.filesPerSecond = filesPerSecond;
+    }
+
+    /**
+     * Used to get the maximum amount of files
+     * deleted each second.
+     *
+     * @return The files per second.
+     */
+    public int getFilesPerSecond() {
+        return this.filesPerSecond;
+    }
+
+    /**
+     * Used to set the maximum amount of files deleted each second.
+     * <p>
+     * If this is 0 or less, files are deleted without a limit.
+     *
+     * @param filesPerSecond The files per second.
+     * @return This instance.
+     */
+    public @NotNull WorldDeleter setFilesPerSecond(int filesPerSecond) {
+        this.filesPerSecond = filesPerSecond;
+        return this;
+    }
+
+    /**
+     * Used to get the amount of folders that
+     * are waiting to be deleted.
+     *
+     * @return The amount of pending deletions.
+     */
+    public synchronized int getPendingAmount() {
+        return this.pendingPathSet.size();
+    }
+
+    /**
+     * Used to unload a world and delete its folder.
+     * <p>
+     * This must be called on the main thread.
+     *
+     * @param world The instance of the world.
+     * @return The future that completes when the folder is deleted.
+     * This will fail if the world could not be unloaded.
+     */
+    public @NotNull CompletableFuture<Void> delete(@NotNull World world) {
+        final File folder = world.getWorldFolder();
+
+        // Unload the world without saving.
+        if (!Bukkit.unloadWorld(world, false)) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "The world " + world.getName() + " could not be unloaded."
+            ));
+        }
+
+        return this.delete(folder.toPath());
+    }
+
+    /**
+     * Used to delete a folder and its contents.
+     * <p>
+     * The folder is added to the journal before
+     * it is deleted on the background thread.
+     *
+     * @param folder The folder to delete.
+     * @return The future that completes when the folder is deleted.
+     */
+    public @NotNull CompletableFuture<Void> delete(@NotNull Path folder) {
+        final Path path = folder.toAbsolutePath().normalize();
+
+        synchronized (this) {
+            if (this.pendingPathSet.add(path)) this.saveJournal();
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> this.deleteNow(path), this.executor);
+        } catch (RejectedExecutionException exception) {
+
+            // The deleter has been shut down, so the
+            // folder will be deleted when it resumes.
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Used to delete the folders in the journal that
+     * were not deleted before the server stopped.
+     * <p>
+     * Only folders inside the world container that are not
+     * loaded worlds will be deleted. Any other entry is logged
+     * and removed from the journal.
+     * <p>
+     * This must be called on the main thread.
+     *
+     * @return This instance.
+     */
+    public @NotNull WorldDeleter resume() {
+        if (!Files.exists(this.journalPath)) return this;
+
+        final List<String> lineList;
+        try {
+            lineList = Files.readAllLines(this.journalPath, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            this.logger.warn("Unable to read the journal &f" + this.journalPath + "&7. " + exception.getMessage());
+            return this;
+        }
+
+        for (String line : lineList) {
+            if (line.isBlank()) continue;
+
+            // Check if the entry is safe to delete.
+            final Path path = this.getResumablePath(line).orElse(null);
+            if (path == null) {
+                this.logger.warn("Ignored the journal entry &f" + line + "&7 as it is not an unloaded world folder.");
+                continue;
+            }
+
+            this.logger.log("Resuming deletion of &f" + path);
+            this.delete(path);
+        }
+
+        // Remove the ignored entries from the journal.
+        synchronized (this) {
+            this.saveJournal();
+        }
+        return this;
+    }
+
+    /**
+     * Used to check if a journal entry can be deleted.
+     * <p>
+     * The path must be strictly inside the world container
+     * and must not be the folder of a loaded world.
+     *
+     * @param line The journal entry.
+     * @return The optional normalized path. Empty if the entry should not be deleted.
+     */
+    private @NotNull Optional<Path> getResumablePath(@NotNull String line) {
+        final Path path;
+        final Path container;
+        try {
+            path = Path.of(line.trim()).toAbsolutePath().normalize();
+            container = Bukkit.getWorldContainer().toPath().toAbsolutePath().normalize();
+        } catch (InvalidPathException exception) {
+            return Optional.empty();
+        }
+
+        // Check if the path is inside the world container.
+        if (!path.startsWith(container) || path.equals(container)) return Optional.empty();
+
+        // Check if the path is a loaded world.
+        for (World world : Bukkit.getWorlds()) {
+            final Path worldPath = world.getWorldFolder().toPath().toAbsolutePath().normalize();
+            if (path.equals(worldPath) || worldPath.startsWith(path)) return Optional.empty();
+        }
+
+        return Optional.of(path);
+    }
+
+    /**
+     * Used to stop the background thread.
+     * <p>
+     * The current deletion is given a short amount of time
+     * to finish. Any remaining folders stay in the journal.
+     *
+     * @return This instance.
+     */
+    public @NotNull WorldDeleter shutdown() {
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return this;
+    }
+
+    /**
+     * Used to delete a folder on the current thread.
+     * <p>
+     * The folder is removed from the journal once deleted.
+     *
+     * @param path The folder to delete.
+     */
+    private void deleteNow(@NotNull Path path) {
+        try {
+            if (Files.exists(path)) {
+                Files.walkFileTree(path, new RateLimitedDeleteVisitor());
+            }
+
+            synchronized (this) {
+                this.pendingPathSet.remove(path);
+                this.saveJournal();
+            }
+
+            this.logger.debug("Deleted &f" + path);
+
+        } catch (IOException exception) {
+            this.logger.warn("Unable to delete &f" + path + "&7. " + exception.getMessage());
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Used to write the pending folders to the journal.
+     * <p>
+     * This should be called while holding the lock.
+     */
+    private void saveJournal() {
+        try {
+            if (this.pendingPathSet.isEmpty()) {
+                Files.deleteIfExists(this.journalPath);
+                return;
+            }
+
+            final List<String> lineList = new ArrayList<>();
+            for (Path path : this.pendingPathSet) {
+                lineList.add(path.toString());
+            }
+
+            Files.createDirectories(this.journalPath.toAbsolutePath().getParent());
+            Files.write(this.journalPath, lineList, StandardCharsets.UTF_8);
+
+        } catch (IOException exception) {
+            this.logger.warn("Unable to write the journal &f" + this.journalPath + "&7. " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Represents a file visitor that deletes files
+     * and then their folders, while limiting the amount
+     * of files deleted each second.
+     */
+    private class RateLimitedDeleteVisitor extends SimpleFileVisitor<Path> {
+
+        private final long startTime = System.nanoTime();
+        private long deletedAmount = 0;
+
+        @Override
+        public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attributes) throws IOException {
+            this.deleteAndThrottle(file);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public @NotNull FileVisitResult visitFileFailed(@NotNull Path file, @NotNull IOException exception) throws IOException {
+            if (exception instanceof NoSuchFileException) return FileVisitResult.CONTINUE;
+            throw exception;
+        }
+
+        @Override
+        public @NotNull FileVisitResult postVisitDirectory(@NotNull Path directory, IOException exception) throws IOException {
+            if (exception != null) throw exception;
+            this.deleteAndThrottle(directory);
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * Used to delete a path and then wait if more
+         * files have been deleted than are allowed.
+         *
+         * @param path The path to delete.
+         * @throws IOException If the path could not be deleted,
+         *                     or the thread was interrupted.
+         */
+        private void deleteAndThrottle(@NotNull Path path) throws IOException {
+            Files.deleteIfExists(path);
+            this.deletedAmount++;
+
+            final int filesPerSecond = WorldDeleter.this.filesPerSecond;
+            if (filesPerSecond <= 0) return;
+
+            // Check if the deletion is ahead of the limit.
+            final long allowedNanos = TimeUnit.SECONDS.toNanos(this.deletedAmount) / filesPerSecond;
+            final long aheadNanos = allowedNanos - (System.nanoTime() - this.startTime);
+            if (aheadNanos <= 0) return;
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException("The deletion was interrupted.", exception);
+            }
+        }
+    }
+}
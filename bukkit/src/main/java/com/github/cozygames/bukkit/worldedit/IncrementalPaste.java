@@ -0,0 +1,261 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.worldedit;
+
+import com.github.cozygames.api.logger.Logger;
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.WorldEdit;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import com.sk89q.worldedit.function.operation.ForwardExtentCopy;
+import com.sk89q.worldedit.function.operation.Operations;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldedit.world.World;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a clipboard paste that is split over many ticks.
+ * <p>
+ * The clipboard is split into batches where each batch is
+ * a single chunk column in the destination world. Every tick,
+ * batches are pasted until the tick's time budget is used.
+ * The time used includes writing the blocks to the world.
+ * At least one batch is pasted each tick.
+ * <p>
+ * This must be started on the main thread.
+ */
+public class IncrementalPaste {
+
+    private final @NotNull Plugin plugin;
+    private final @NotNull Logger logger;
+    private final @NotNull Clipboard clipboard;
+    private final @NotNull World world;
+    private final @NotNull BlockVector3 destination;
+    private final long budgetNanos;
+
+    private final @NotNull List<CuboidRegion> batchList;
+    private final @NotNull CompletableFuture<Void> future;
+
+    private volatile int completedAmount;
+    private @Nullable BukkitTask task;
+
+    /**
+     * Used to create a new incremental paste.
+     *
+     * @param plugin       The plugin used to schedule the paste.
+     * @param logger       The instance of the logger.
+     * @param location     The location to paste the clipboard's origin at.
+     * @param clipboard    The instance of the clipboard.
+     * @param budgetMillis The maximum amount of milliseconds
+     *                     that can be used each tick.
+     * @throws IllegalArgumentException If the location has no world.
+     */
+    public IncrementalPaste(@NotNull Plugin plugin,
+                            @NotNull Logger logger,
+                            @NotNull Location location,
+                            @NotNull Clipboard clipboard,
+                            long budgetMillis) {
+
+        if (location.getWorld() == null) {
+            throw new IllegalArgumentException("Attempted to paste a clipboard but the world is null. The location is " + location);
+        }
+
+        this.plugin = plugin;
+        this.logger = logger;
+        this.clipboard = clipboard;
+        this.world = BukkitAdapter.adapt(location.getWorld());
+        this.destination = BlockVector3.at(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+
+        this.batchList = this.createBatchList();
+        this.future = new CompletableFuture<>();
+        this.completedAmount = 0;
+    }
+
+    /**
+     * Used to start pasting the clipboard.
+     * <p>
+     * The first batches are pasted on the next tick.
+     *
+     * @return The future that completes when
+     * every batch has been pasted.
+     */
+    public @NotNull CompletableFuture<Void> start() {
+        if (this.task != null) return this.future;
+
+        // Check if there is nothing to paste.
+        if (this.batchList.isEmpty()) {
+            this.future.complete(null);
+            return this.future;
+        }
+
+        this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1, 1);
+        return this.future;
+    }
+
+    /**
+     * Used to stop pasting the clipboard.
+     * <p>
+     * Batches that have already been pasted will remain.
+     *
+     * @return This instance.
+     */
+    public @NotNull IncrementalPaste cancel() {
+        if (this.task != null) this.task.cancel();
+        this.future.cancel(false);
+        return this;
+    }
+
+    /**
+     * Used to get the future that completes
+     * when every batch has been pasted.
+     *
+     * @return The paste future.
+     */
+    public @NotNull CompletableFuture<Void> getFuture() {
+        return this.future;
+    }
+
+    /**
+     * Used to get the amount of batches.
+     *
+     * @return The amount of batches.
+     */
+    public int getBatchAmount() {
+        return this.batchList.size();
+    }
+
+    /**
+     * Used to get the amount of batches
+     * that have been pasted.
+     *
+     * @return The amount of completed batches.
+     */
+    public int getCompletedAmount() {
+        return this.completedAmount;
+    }
+
+    /**
+     * Used to get the progress of the paste.
+     *
+     * @return The progress between 0 and 1.
+     */
+    public double getProgress() {
+        if (this.batchList.isEmpty()) return 1;
+        return (double) this.completedAmount / this.batchList.size();
+    }
+
+    /**
+     * Used to paste batches until the time
+     * budget for this tick is used.
+     */
+    private void tick() {
+        if (this.future.isDone()) {
+            if (this.task != null) this.task.cancel();
+            return;
+        }
+
+        final long deadline = System.nanoTime() + this.budgetNanos;
+
+        try {
+            do {
+
+                // Each batch uses its own edit session, as the changes
+                // are written to the world when the session is closed.
+                // This means the deadline includes writing the blocks.
+                try (EditSession editSession = WorldEdit.getInstance().newEditSession(this.world)) {
+                    final ForwardExtentCopy copy = new ForwardExtentCopy(
+                            this.clipboard,
+                            this.batchList.get(this.completedAmount),
+                            this.clipboard.getOrigin(),
+                            editSession,
+                            this.destination
+                    );
+
+                    Operations.complete(copy);
+                }
+
+                this.completedAmount++;
+
+            } while (this.completedAmount < this.batchList.size() && System.nanoTime() < deadline);
+
+        } catch (Exception exception) {
+            this.logger.warn("Attempted to paste a clipboard but something went wrong when completing the operation.");
+            if (this.task != null) this.task.cancel();
+            this.future.completeExceptionally(exception);
+            return;
+        }
+
+        // Check if every batch has been pasted.
+        if (this.completedAmount >= this.batchList.size()) {
+            if (this.task != null) this.task.cancel();
+            this.future.complete(null);
+        }
+    }
+
+    /**
+     * Used to split the clipboard's region into
+     * regions that each cover a single chunk
+     * column in the destination world.
+     *
+     * @return The list of batch regions in clipboard coordinates.
+     */
+    private @NotNull List<CuboidRegion> createBatchList() {
+        final BlockVector3 minimum = this.clipboard.getRegion().getMinimumPoint();
+        final BlockVector3 maximum = this.clipboard.getRegion().getMaximumPoint();
+
+        // The offset from clipboard coordinates to world coordinates.
+        final BlockVector3 offset = this.destination.subtract(this.clipboard.getOrigin());
+
+        final int minimumChunkX = (minimum.x() + offset.x()) >> 4;
+        final int maximumChunkX = (maximum.x() + offset.x()) >> 4;
+        final int minimumChunkZ = (minimum.z() + offset.z()) >> 4;
+        final int maximumChunkZ = (maximum.z() + offset.z()) >> 4;
+
+        final List<CuboidRegion> regionList = new ArrayList<>();
+        for (int chunkX = minimumChunkX; chunkX <= maximumChunkX; chunkX++) {
+            for (int chunkZ = minimumChunkZ; chunkZ <= maximumChunkZ; chunkZ++) {
+
+                // Clamp the chunk to the clipboard's region.
+                final int fromX = Math.max(minimum.x(), (chunkX << 4) - offset.x());
+                final int toX = Math.min(maximum.x(), (chunkX << 4) + 15 - offset.x());
+                final int fromZ = Math.max(minimum.z(), (chunkZ << 4) - offset.z());
+                final int toZ = Math.min(maximum.z(), (chunkZ << 4) + 15 - offset.z());
+
+                regionList.add(new CuboidRegion(
+                        BlockVector3.at(fromX, minimum.y(), fromZ),
+                        BlockVector3.at(toX, maximum.y(), toZ)
+                ));
+            }
+        }
+
+        return regionList;
+    }
+}
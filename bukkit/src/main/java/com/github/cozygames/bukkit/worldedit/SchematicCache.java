@@ -0,0 +1,234 @@
+/*
+ * CozyGamesAPI - The api used to interface with the cozy game system.
+ * Copyright (C) 2024 Smuddgge
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.github.cozygames.bukkit.worldedit;
+
+import com.github.cozygames.api.logger.Logger;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Represents a bounded cache of parsed schematic clipboards.
+ * <p>
+ * Clipboards are keyed by the schematic identifier and
+ * reloaded when the file's last modified time changes.
+ * When the estimated size of the cached clipboards is
+ * larger than the budget, the least recently used
+ * clipboards are removed.
+ * <p>
+ * Cached clipboards are shared, so they should
+ * not be modified.
+ */
+public class SchematicCache {
+
+    /**
+     * The estimated amount of memory used by each
+     * block in a clipboard.
+     * <p>
+     * A clipboard stores a reference for each block,
+     * while the block states themselves are shared.
+     */
+    public static final long ESTIMATED_BYTES_PER_BLOCK = 8;
+
+    private final long budgetBytes;
+    private final @NotNull LinkedHashMap<String, Entry> entryMap;
+    private long usedBytes;
+
+    /**
+     * Represents a cached clipboard.
+     *
+     * @param file         The schematic file the clipboard was read from.
+     * @param lastModified The last modified time of the file when it was read.
+     * @param bytes        The estimated size of the clipboard.
+     * @param clipboard    The instance of the clipboard.
+     */
+    private record Entry(@NotNull File file, long lastModified, long bytes, @NotNull Clipboard clipboard) {
+    }
+
+    /**
+     * Used to create a new schematic cache.
+     *
+     * @param budgetBytes The maximum estimated size of the cached
+     *                    clipboards in bytes. If this is 0,
+     *                    clipboards will not be cached.
+     */
+    public SchematicCache(long budgetBytes) {
+        this.budgetBytes = Math.max(0, budgetBytes);
+        this.entryMap = new LinkedHashMap<>(16, 0.75f, true);
+        this.usedBytes = 0;
+    }
+
+    /**
+     * Used to get the maximum estimated size
+     * of the cached clipboards.
+     *
+     * @return The budget in bytes.
+     */
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    /**
+     * Used to get the estimated size of the
+     * currently cached clipboards.
+     *
+     * @return The used bytes.
+     */
+    public synchronized long getUsedBytes() {
+        return this.usedBytes;
+    }
+
+    /**
+     * Used to get the amount of cached clipboards.
+     *
+     * @return The amount of cached clipboards.
+     */
+    public synchronized int getSize() {
+        return this.entryMap.size();
+    }
+
+    /**
+     * Used to get a schematic's clipboard.
+     * <p>
+     * If the clipboard is cached and the file has not
+     * changed, the cached clipboard will be returned.
+     * Otherwise, the file will be read and cached.
+     *
+     * @param logger     The logger to use if the file cannot be read.
+     * @param identifier The schematic identifier without the file extension.
+     * @return The optional clipboard.
+     */
+    public @NotNull Optional<Clipboard> get(@NotNull Logger logger, @NotNull String identifier) {
+
+        // Get the schematic file.
+        final File file = WorldEditHelper.getSchematicFile(identifier).orElse(null);
+        if (file == null) return Optional.empty();
+
+        // Check if the cached clipboard is still up-to-date.
+        final long lastModified = file.lastModified();
+        synchronized (this) {
+            final Entry entry = this.entryMap.get(identifier);
+            if (entry != null && entry.file().equals(file) && entry.lastModified() == lastModified) {
+                return Optional.of(entry.clipboard());
+            }
+        }
+
+        // Read the file outside the lock so other
+        // clipboards can still be requested.
+        final Clipboard clipboard = WorldEditHelper.readSchematic(logger, file).orElse(null);
+        if (clipboard == null) return Optional.empty();
+
+        this.put(identifier, new Entry(file, lastModified, SchematicCache.estimateBytes(clipboard), clipboard));
+        return Optional.of(clipboard);
+    }
+
+    /**
+     * Used to read and cache a list of schematics.
+     * <p>
+     * This will read the files on the current thread,
+     * so it should be called asynchronously.
+     *
+     * @param logger         The logger to use if a file cannot be read.
+     * @param identifierList The list of schematic identifiers.
+     * @return The amount of schematics that are cached.
+     */
+    public int preload(@NotNull Logger logger, @NotNull Collection<String> identifierList) {
+        int amount = 0;
+
+        for (String identifier : identifierList) {
+            try {
+                if (this.get(logger, identifier).isPresent()) amount++;
+            } catch (Exception exception) {
+                logger.warn("Unable to preload the schematic &f" + identifier + "&7. " + exception.getMessage());
+            }
+        }
+
+        return amount;
+    }
+
+    /**
+     * Used to remove a schematic from the cache.
+     *
+     * @param identifier The schematic identifier.
+     * @return This instance.
+     */
+    public synchronized @NotNull SchematicCache invalidate(@NotNull String identifier) {
+        final Entry entry = this.entryMap.remove(identifier);
+        if (entry != null) this.usedBytes -= entry.bytes();
+        return this;
+    }
+
+    /**
+     * Used to remove every schematic from the cache.
+     *
+     * @return This instance.
+     */
+    public synchronized @NotNull SchematicCache clear() {
+        this.entryMap.clear();
+        this.usedBytes = 0;
+        return this;
+    }
+
+    /**
+     * Used to add an entry and evict the least
+     * recently used entries until the cache
+     * is within its budget.
+     *
+     * @param identifier The schematic identifier.
+     * @param entry      The entry to add.
+     */
+    private synchronized void put(@NotNull String identifier, @NotNull Entry entry) {
+
+        // Remove the old entry.
+        this.invalidate(identifier);
+
+        // Check if the clipboard is too large to cache.
+        if (entry.bytes() > this.budgetBytes) return;
+
+        this.entryMap.put(identifier, entry);
+        this.usedBytes += entry.bytes();
+
+        // Evict the least recently used entries.
+        final Iterator<Map.Entry<String, Entry>> iterator = this.entryMap.entrySet().iterator();
+        while (this.usedBytes > this.budgetBytes && iterator.hasNext()) {
+            final Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(identifier)) continue;
+
+            this.usedBytes -= eldest.getValue().bytes();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Used to estimate the memory used by a clipboard.
+     *
+     * @param clipboard The instance of the clipboard.
+     * @return The estimated size in bytes.
+     */
+    private static long estimateBytes(@NotNull Clipboard clipboard) {
+        final long volume = clipboard.getRegion().getVolume();
+        return volume * ESTIMATED_BYTES_PER_BLOCK;
+    }
+}
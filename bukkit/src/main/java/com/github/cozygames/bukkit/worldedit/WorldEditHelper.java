@@ -38,6 +38,8 @@ import com.sk89q.worldedit.world.World;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +58,17 @@ public final class WorldEditHelper {
 
     private static final org.slf4j.Logger log = LoggerFactory.getLogger(WorldEditHelper.class);
 
+    /**
+     * The default schematic cache budget of 256 megabytes.
+     */
+    private static volatile @NotNull SchematicCache schematicCache = new SchematicCache(256L * 1024 * 1024);
+
+    /**
+     * The maximum amount of milliseconds an
+     * {@link IncrementalPaste} can use each tick.
+     */
+    private static volatile long pasteMillisPerTick = 10;
+
     /**
      * Used to get a user's current world edit selection.
      *
@@ -189,6 +202,10 @@ public final class WorldEditHelper {
 
     /**
      * Used to get a schematic from world edit.
+     * <p>
+     * The clipboard is taken from the {@link SchematicCache}
+     * if the file has not changed since it was last read.
+     * Cached clipboards are shared, so they should not be modified.
      *
      * @param identifier The schematic identifier without the file extension.
      * @return The requested clipboard.
@@ -199,9 +216,21 @@ public final class WorldEditHelper {
         final Plugin plugin = WorldEditHelper.getWorldEditPlugin().orElse(null);
         if (plugin == null) return Optional.empty();
 
-        // Create file instance.
-        final File file = WorldEditHelper.getSchematicFile(identifier).orElse(null);
-        if (file == null) return Optional.empty();
+        return WorldEditHelper.schematicCache.get(logger, identifier);
+    }
+
+    /**
+     * Used to read a schematic file into a clipboard.
+     * <p>
+     * This will always read the file, so
+     * {@link WorldEditHelper#getSchematic(Logger, String)}
+     * should be used instead.
+     *
+     * @param logger The instance of the logger.
+     * @param file   The schematic file.
+     * @return The requested clipboard.
+     */
+    public static @NotNull Optional<Clipboard> readSchematic(@NotNull Logger logger, @NotNull File file) {
 
         // Get clipboard format.
         ClipboardFormat format = ClipboardFormats.findByFile(file);
@@ -212,11 +241,79 @@ public final class WorldEditHelper {
             return Optional.ofNullable(reader.read());
 
         } catch (IOException exception) {
-            logger.warn("Attempted to get the schematic &f" + identifier + "&7 but the file &f" + file.getAbsolutePath() + "&7could not be read.");
+            logger.warn("Attempted to read the schematic file &f" + file.getAbsolutePath() + "&7 but it could not be read.");
             throw new RuntimeException(exception);
         }
     }
 
+    /**
+     * Used to get the instance of the schematic cache.
+     *
+     * @return The schematic cache.
+     */
+    public static @NotNull SchematicCache getSchematicCache() {
+        return WorldEditHelper.schematicCache;
+    }
+
+    /**
+     * Used to replace the schematic cache.
+     * <p>
+     * This is used to apply the configured budget.
+     *
+     * @param schematicCache The new schematic cache.
+     */
+    @ApiStatus.Internal
+    public static void setSchematicCache(@NotNull SchematicCache schematicCache) {
+        WorldEditHelper.schematicCache = schematicCache;
+    }
+
+    /**
+     * Used to get the maximum amount of milliseconds
+     * an {@link IncrementalPaste} can use each tick.
+     *
+     * @return The milliseconds per tick.
+     */
+    public static long getPasteMillisPerTick() {
+        return WorldEditHelper.pasteMillisPerTick;
+    }
+
+    /**
+     * Used to set the maximum amount of milliseconds
+     * an {@link IncrementalPaste} can use each tick.
+     *
+     * @param pasteMillisPerTick The milliseconds per tick.
+     */
+    @ApiStatus.Internal
+    public static void setPasteMillisPerTick(long pasteMillisPerTick) {
+        WorldEditHelper.pasteMillisPerTick = pasteMillisPerTick;
+    }
+
+    /**
+     * Used to paste a clipboard into a world at a location
+     * over many ticks.
+     * <p>
+     * Unlike {@link WorldEditHelper#pasteClipboard(Logger, Location, Clipboard)},
+     * this will not block the main thread until the paste is complete.
+     * This must be called on the main thread.
+     *
+     * @param logger    The instance of the logger.
+     * @param location  The location to paste the clipboard.
+     * @param clipboard The instance of a clipboard.
+     * @return The started paste, which contains the progress and future.
+     */
+    public static @NotNull IncrementalPaste pasteClipboardIncrementally(@NotNull Logger logger, @NotNull Location location, @NotNull Clipboard clipboard) {
+        final IncrementalPaste paste = new IncrementalPaste(
+                JavaPlugin.getProvidingPlugin(WorldEditHelper.class),
+                logger,
+                location,
+                clipboard,
+                WorldEditHelper.pasteMillisPerTick
+        );
+
+        paste.start();
+        return paste;
+    }
+
     /**
      * Used to paste a clipboard into a world at a location.
      *
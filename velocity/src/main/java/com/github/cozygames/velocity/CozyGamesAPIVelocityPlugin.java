@@ -33,6 +33,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 @Plugin(
@@ -84,4 +85,11 @@ public class CozyGamesAPIVelocityPlugin implements CozyGamesAPIPlugin {
     public boolean isOnline(@NotNull UUID playerUuid) {
         return this.proxy.getPlayer(playerUuid).isPresent();
     }
+
+    @Override
+    public @NotNull Executor getMainThreadExecutor() {
+
+        // Velocity doesn't have a main thread.
+        return Runnable::run;
+    }
 }